@@ -0,0 +1,94 @@
+package benchmarks;
+
+import commands.FilterCommand;
+import commands.FindFreeTimesCommand;
+import commons.UserInteraction;
+import dukeexceptions.DukeInvalidFormatException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tasks.Assignment;
+import tasks.TaskList;
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the commands that look through every event and deadline of a semester.
+ * The semester starts today, so that finding free times has events ahead of it to work around.
+ * None of these commands touch Storage, so they are run without one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CommandBenchmark {
+    private static final int SEMESTER_DAYS = 112;
+    private static final int PROBES = 64;
+
+    @Param({"300"})
+    private int modules;
+
+    @Param({"2000", "20000"})
+    private int tasks;
+
+    private TaskList events;
+    private TaskList deadlines;
+    private UserInteraction ui;
+    private Assignment[] probes;
+    private int nextProbe;
+
+    /**
+     * This method builds the semester once for each combination of parameters.
+     */
+    @Setup
+    public void setUp() {
+        SyntheticSemester semester = new SyntheticSemester(modules, LocalDate.now(), SEMESTER_DAYS);
+        events = semester.events(tasks);
+        deadlines = semester.deadlines(tasks);
+        ui = new UserInteraction();
+        probes = new Assignment[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = semester.probeEvent(i);
+        }
+    }
+
+    /**
+     * This method finds the earliest free two hour blocks around all the events.
+     */
+    @Benchmark
+    public String findFreeTimes() {
+        return new FindFreeTimesCommand(2).execute(events, deadlines, ui, null);
+    }
+
+    /**
+     * This method checks a new event against all the events, using a different one on each call.
+     */
+    @Benchmark
+    public ArrayList<String> checkEventConflict() throws ParseException {
+        Assignment probe = probes[nextProbe];
+        nextProbe = (nextProbe + 1) % PROBES;
+        return new FilterCommand(probe.getModCode()).checkEventConflict(events, probe);
+    }
+
+    /**
+     * This method filters the events and deadlines with a keyword that only some of them contain.
+     */
+    @Benchmark
+    public String filterByKeyword() throws DukeInvalidFormatException {
+        return new FilterCommand("tutorial").execute(events, deadlines, ui, null);
+    }
+
+    /**
+     * This method filters the events and deadlines with a keyword that none of them contain.
+     */
+    @Benchmark
+    public String filterByMissingKeyword() throws DukeInvalidFormatException {
+        return new FilterCommand("nothing like this").execute(events, deadlines, ui, null);
+    }
+}
@@ -0,0 +1,82 @@
+package benchmarks;
+
+import commons.Storage;
+import dukeexceptions.DukeIOException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import tasks.TaskList;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures reading a semester of events back from the data folder on start up.
+ * Storage keeps its files under user.dir, so the benchmark points user.dir at a folder of its own
+ * and writes the semester there with Storage before measuring.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StorageBenchmark {
+    private static final String USER_DIR_PROPERTY = "user.dir";
+    private static final String SNAPSHOT_FORMAT_PROPERTY = "duke.snapshot.format";
+
+    @Param({"300"})
+    private int modules;
+
+    @Param({"2000", "20000"})
+    private int tasks;
+
+    @Param({"text", "binary"})
+    private String snapshotFormat;
+
+    private String userDir;
+    private Path dataRoot;
+    private Storage storage;
+
+    /**
+     * This method saves the semester into a new data folder in the chosen snapshot format.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        userDir = System.getProperty(USER_DIR_PROPERTY);
+        dataRoot = Files.createTempDirectory("duke-benchmark");
+        System.setProperty(USER_DIR_PROPERTY, dataRoot.toString());
+        System.setProperty(SNAPSHOT_FORMAT_PROPERTY, snapshotFormat);
+        storage = new Storage();
+        storage.updateEventList(SyntheticSemester.withinCalendar(modules).events(tasks));
+    }
+
+    /**
+     * This method puts user.dir back and deletes the data folder.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        System.setProperty(USER_DIR_PROPERTY, userDir);
+        System.clearProperty(SNAPSHOT_FORMAT_PROPERTY);
+        try (Stream<Path> paths = Files.walk(dataRoot)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * This method reads every event in the data folder into a new TaskList.
+     */
+    @Benchmark
+    public TaskList readEventList() throws DukeIOException {
+        TaskList events = new TaskList();
+        storage.readEventList(events);
+        return events;
+    }
+}
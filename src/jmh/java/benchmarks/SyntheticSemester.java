@@ -0,0 +1,117 @@
+package benchmarks;
+
+import commons.DateTimeCodec;
+import tasks.Deadline;
+import tasks.Event;
+import tasks.TaskList;
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * Builds a made up semester of events and deadlines for the benchmarks to work on.
+ * The same sizes and seed always give the same semester, so runs can be compared with each other.
+ */
+public class SyntheticSemester {
+    /**
+     * The first and last dates of the academic calendar in the LookupTable,
+     * which tasks read back from a file must fall within.
+     */
+    public static final LocalDate CALENDAR_START = LocalDate.of(2019, 8, 12);
+    public static final LocalDate CALENDAR_END = LocalDate.of(2019, 12, 1);
+
+    private static final long SEED = 2113L;
+    private static final int FIRST_HOUR = 8;
+    private static final int LAST_HOUR = 20;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int HALF_HOUR = 30;
+    private static final String[] EVENT_KINDS = {"lecture", "tutorial", "lab", "recitation", "project meeting"};
+    private static final String[] DEADLINE_KINDS = {"assignment", "quiz", "report", "problem set", "essay"};
+
+    private final String[] moduleCodes;
+    private final LocalDate firstDate;
+    private final int days;
+
+    /**
+     * Creates a SyntheticSemester object.
+     * @param modules The number of modules the tasks are spread over
+     * @param firstDate The date of the first day of the semester
+     * @param days The number of days in the semester
+     */
+    public SyntheticSemester(int modules, LocalDate firstDate, int days) {
+        this.moduleCodes = new String[modules];
+        for (int i = 0; i < modules; i++) {
+            moduleCodes[i] = String.format("BM%04d", i);
+        }
+        this.firstDate = firstDate;
+        this.days = days;
+    }
+
+    /**
+     * Creates a SyntheticSemester object covering the academic calendar in the LookupTable.
+     * @param modules The number of modules the tasks are spread over
+     */
+    public static SyntheticSemester withinCalendar(int modules) {
+        return new SyntheticSemester(modules, CALENDAR_START, (int) (CALENDAR_END.toEpochDay()
+                - CALENDAR_START.toEpochDay()) + 1);
+    }
+
+    /**
+     * This method makes events lasting one to two hours between 8 AM and 9 PM, spread over the modules and days.
+     * @param count The number of events to make
+     * @return The TaskList object holding the events
+     */
+    public TaskList events(int count) {
+        Random random = new Random(SEED);
+        TaskList events = new TaskList();
+        for (int i = 0; i < count; i++) {
+            int startMinute = randomStartMinute(random);
+            int endMinute = startMinute + MINUTES_PER_HOUR + HALF_HOUR * random.nextInt(3);
+            events.addTask(new Event(describe(random, i, EVENT_KINDS), randomDate(random),
+                    DateTimeCodec.formatTwelveHourTime(startMinute), DateTimeCodec.formatTwelveHourTime(endMinute)));
+        }
+        return events;
+    }
+
+    /**
+     * This method makes deadlines due between 8 AM and 8 PM, spread over the modules and days.
+     * @param count The number of deadlines to make
+     * @return The TaskList object holding the deadlines
+     */
+    public TaskList deadlines(int count) {
+        Random random = new Random(SEED + 1);
+        TaskList deadlines = new TaskList();
+        for (int i = 0; i < count; i++) {
+            deadlines.addTask(new Deadline(describe(random, i, DEADLINE_KINDS), randomDate(random),
+                    DateTimeCodec.formatTwelveHourTime(randomStartMinute(random))));
+        }
+        return deadlines;
+    }
+
+    /**
+     * This method makes an event that does not belong to the semester, for checking against it.
+     * @param seed The seed to choose the date and time of the event with
+     */
+    public Event probeEvent(long seed) {
+        Random random = new Random(seed);
+        int startMinute = randomStartMinute(random);
+        return new Event(moduleCodes[0] + " probe", randomDate(random),
+                DateTimeCodec.formatTwelveHourTime(startMinute),
+                DateTimeCodec.formatTwelveHourTime(startMinute + MINUTES_PER_HOUR));
+    }
+
+    /**
+     * Gives each task a number so that tasks of the same module and kind on the same day are kept apart.
+     */
+    private String describe(Random random, int number, String[] kinds) {
+        return moduleCodes[random.nextInt(moduleCodes.length)] + " " + kinds[random.nextInt(kinds.length)]
+                + " " + number;
+    }
+
+    private String randomDate(Random random) {
+        return DateTimeCodec.formatDayDate(firstDate.plusDays(random.nextInt(days)));
+    }
+
+    private int randomStartMinute(Random random) {
+        return FIRST_HOUR * MINUTES_PER_HOUR + HALF_HOUR * random.nextInt((LAST_HOUR - FIRST_HOUR) * 2 + 1);
+    }
+}
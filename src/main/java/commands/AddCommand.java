@@ -2,6 +2,7 @@ package commands;
 
 import commons.DukeConstants;
 import commons.DukeLogger;
+import commons.JournalOperation;
 import commons.Storage;
 import commons.UserInteraction;
 import dukeexceptions.DukeInvalidFormatException;
@@ -56,7 +57,7 @@ public class AddCommand extends Command {
             if (eventConflict.isEmpty()) {
                 events.addTask(this.task);
                 out = ui.showAdd(this.task,size);
-                storage.updateEventList(events);
+                storage.journalEvent(JournalOperation.ADD, this.task, events);
             } else {
                 out = DukeConstants.CONFLICTING_EVENT;
                 for (int i = 0; i < eventConflict.size(); i++) {
@@ -69,7 +70,7 @@ public class AddCommand extends Command {
             if (deadlineConflict.isEmpty()) {
                 deadlines.addTask(this.task);
                 out = ui.showAdd(this.task,size);
-                storage.updateDeadlineList(deadlines);
+                storage.journalDeadline(JournalOperation.ADD, this.task, deadlines);
             } else {
                 out = DukeConstants.CONFLICTING_DEADLINE;
                 for (int i = 0; i < deadlineConflict.size();i++) {
@@ -11,8 +11,8 @@ public class ByeCommand extends Command {
 
     /**
      * Executes the updating of the file with current list of tasks
-     * in the TaskList object and displays the goodbye message
-     * of the program.
+     * in the TaskList object, waiting for every change to be saved,
+     * and displays the goodbye message of the program.
      * @param events The TaskList object for events
      * @param deadlines The TaskList object for deadlines
      * @param ui The Ui object to display the goodbye message
@@ -21,6 +21,7 @@ public class ByeCommand extends Command {
      */
     @Override
     public String execute(TaskList events, TaskList deadlines, UserInteraction ui, Storage storage) {
+        storage.flush();
         return ui.showBye();
     }
 }
@@ -9,9 +9,9 @@ import tasks.TaskList;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 import java.text.ParseException;
-import java.util.Date;
 
 /**
  * Abstract class Command with methods representing all the Command subclasses to be
@@ -55,34 +55,24 @@ public abstract class Command {
      * @param t The event task that is added
      * @return ArrayList containing the assignment that has conflict
      */
-    public  ArrayList<String> checkEventConflict(TaskList taskList, Assignment t) throws ParseException {
-        ArrayList<String> conflict = new ArrayList<>();
-        Date startTime1 = DukeConstants.TWELVE_HOUR_TIME_FORMAT.parse(t.getStartTime());
-        Date endTime1 = DukeConstants.TWELVE_HOUR_TIME_FORMAT.parse(t.getEndTime());
-        HashMap<String, HashMap<String, ArrayList<Assignment>>> mapObtained = taskList.getMap();
+    public ArrayList<String> checkEventConflict(TaskList taskList, Assignment t) throws ParseException {
+        return toDisplayStrings(taskList.findConflicts(t));
+    }
 
-        for (String modCode : mapObtained.keySet()) {
-            for (String date : mapObtained.get(modCode).keySet()) {
-                for (Assignment task : mapObtained.get(modCode).get(date)) {
-                    if (date.equals(t.getDate())) {
-                        Date taskStartTime = DukeConstants.TWELVE_HOUR_TIME_FORMAT.parse(task.getStartTime());
-                        Date taskEndTime = DukeConstants.TWELVE_HOUR_TIME_FORMAT.parse(task.getEndTime());
-                        if (taskStartTime.equals(startTime1) || taskStartTime.equals(endTime1)) {
-                            conflict.add(task.displayString());
-                        } else if (taskEndTime.equals(endTime1) || taskEndTime.equals(startTime1)) {
-                            conflict.add(task.displayString());
-                        } else if (startTime1.after(taskStartTime) && startTime1.before(taskEndTime)) {
-                            conflict.add(task.displayString());
-                        } else if (endTime1.after(taskEndTime) && endTime1.before(taskEndTime)) {
-                            conflict.add(task.displayString());
-                        } else if (taskStartTime.after(startTime1) && taskStartTime.before(endTime1)) {
-                            conflict.add(task.displayString());
-                        } else if (taskEndTime.after(startTime1) && taskEndTime.before(endTime1)) {
-                            conflict.add(task.displayString());
-                        }
-                    }
-                }
-            }
+    /**
+     * This method checks whether there is a conflict in the adding of several events in one query.
+     * @param taskList The TaskList object for events
+     * @param tasks The event tasks that are added
+     * @return ArrayList containing the assignments that have conflict
+     */
+    public ArrayList<String> checkEventConflict(TaskList taskList, List<Assignment> tasks) throws ParseException {
+        return toDisplayStrings(taskList.findConflicts(tasks));
+    }
+
+    private ArrayList<String> toDisplayStrings(ArrayList<Assignment> tasks) {
+        ArrayList<String> conflict = new ArrayList<>();
+        for (Assignment task : tasks) {
+            conflict.add(task.displayString());
         }
         return conflict;
     }
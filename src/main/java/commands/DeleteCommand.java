@@ -1,6 +1,7 @@
 package commands;
 
 import commons.DukeConstants;
+import commons.JournalOperation;
 import commons.Reminder;
 import dukeexceptions.DukeException;
 import commons.Storage;
@@ -48,12 +49,12 @@ public class DeleteCommand extends Command {
         if (list.equals(DukeConstants.EVENT_LIST)) {
             super.insideMapChecker(eventMap, task);
             events.removeTask(task);
-            storage.updateEventList(events);
+            storage.journalEvent(JournalOperation.REMOVE, task, events);
             listToChange = events;
         } else if (list.equals(DukeConstants.DEADLINE_LIST)) {
             super.insideMapChecker(deadlineMap, task);
             deadlines.removeTask(task);
-            storage.updateDeadlineList(deadlines);
+            storage.journalDeadline(JournalOperation.REMOVE, task, deadlines);
             listToChange = deadlines;
             Reminder reminder = storage.getReminderObject();
             HashMap<Date, Assignment> remindMap = reminder.getRemindMap();
@@ -1,5 +1,6 @@
 package commands;
 
+import commons.JournalOperation;
 import dukeexceptions.DukeException;
 import commons.Storage;
 import commons.UserInteraction;
@@ -42,17 +43,16 @@ public class DoneCommand extends Command {
             throws DukeException {
         HashMap<String, HashMap<String, ArrayList<Assignment>>> eventMap = events.getMap();
         HashMap<String, HashMap<String, ArrayList<Assignment>>> deadlineMap = deadlines.getMap();
-
+        task.setDone(true);
         if (list.equals("event")) {
             super.insideMapChecker(eventMap, task);
             events.updateTask(task);
-            storage.updateEventList(events);
+            storage.journalEvent(JournalOperation.DONE, task, events);
         } else if (list.equals("deadline")) {
             super.insideMapChecker(deadlineMap, task);
             deadlines.updateTask(task);
-            storage.updateDeadlineList(deadlines);
+            storage.journalDeadline(JournalOperation.DONE, task, deadlines);
         }
-        task.setDone(true);
         return ui.showDone(task);
     }
 }
@@ -7,8 +7,6 @@ import dukeexceptions.DukeInvalidFormatException;
 import tasks.Assignment;
 import tasks.TaskList;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Set;
 
 /**
  * Represents the command to show the list of tasks corresponding to a keyword.
@@ -41,37 +39,15 @@ public class FilterCommand extends Command {
             throw new DukeInvalidFormatException(DukeConstants.SHOW_FILTER_FORMAT);
         }
         ArrayList<String> out = new ArrayList<>();
-        HashMap<String, HashMap<String, ArrayList<Assignment>>> eventMap = events.getMap();
-        Set<String> allMods = eventMap.keySet();
-        for (String mod : allMods) {
-            Set<String> allDates = eventMap.get(mod).keySet();
-            for (String date : allDates) {
-                ArrayList<Assignment> temp = eventMap.get(mod).get(date);
-                for (Assignment task : temp) {
-                    String lowerCaseTask = task.toString().toLowerCase();
-                    if (lowerCaseTask.toLowerCase().contains(keyword)) {
-                        out.add(task.getType() + task.getModCode()
-                                + DukeConstants.BLANK_SPACE + task.getDescription()
-                                + EVENT_KEYWORD + task.getDateTime());
-                    }
-                }
-            }
+        for (Assignment task : events.findByKeyword(keyword)) {
+            out.add(task.getType() + task.getModCode()
+                    + DukeConstants.BLANK_SPACE + task.getDescription()
+                    + EVENT_KEYWORD + task.getDateTime());
         }
-        HashMap<String, HashMap<String, ArrayList<Assignment>>> deadlineMap = deadlines.getMap();
-        Set<String> allMods1 = deadlineMap.keySet();
-        for (String mod : allMods1) {
-            Set<String> allDates = deadlineMap.get(mod).keySet();
-            for (String date : allDates) {
-                ArrayList<Assignment> temp = deadlineMap.get(mod).get(date);
-                for (Assignment task : temp) {
-                    String lowerCaseTask = task.toString().toLowerCase();
-                    if (lowerCaseTask.contains(keyword)) {
-                        out.add(task.getType() + task.getModCode()
-                                + DukeConstants.BLANK_SPACE + task.getDescription()
-                                + DEADLINE_KEYWORD + task.getDateTime());
-                    }
-                }
-            }
+        for (Assignment task : deadlines.findByKeyword(keyword)) {
+            out.add(task.getType() + task.getModCode()
+                    + DukeConstants.BLANK_SPACE + task.getDescription()
+                    + DEADLINE_KEYWORD + task.getDateTime());
         }
         return ui.showFilter(out, this.keyword);
     }
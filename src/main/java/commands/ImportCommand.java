@@ -0,0 +1,305 @@
+package commands;
+
+import commons.AcademicCalendar;
+import commons.DateTimeCodec;
+import commons.DukeConstants;
+import commons.DukeLogger;
+import commons.LookupTable;
+import commons.ModCodeChecker;
+import commons.Storage;
+import commons.UserInteraction;
+import dukeexceptions.DukeIOException;
+import tasks.Assignment;
+import tasks.Deadline;
+import tasks.Event;
+import tasks.TaskList;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Represents the command to add every event and deadline listed in a file, such as a semester's timetable.
+ * The lines are read in parallel, then checked for clashes with each other in one sweep and with the tasks
+ * already added through the TaskLists' indexes. Nothing is added unless every line can be, and the
+ * TaskLists are saved once at the end rather than once for each task.
+ */
+public class ImportCommand extends Command {
+    private static final String FIELD_SEPARATOR = ",";
+    private static final String COMMENT_PREFIX = "#";
+    private static final String HEADER_FIRST_FIELD = "type";
+    private static final String EVENT_TYPE = "E";
+    private static final String DEADLINE_TYPE = "D";
+    private static final String REPEAT_WEEKLY = "weekly";
+    private static final String REPEAT_BIWEEKLY = "biweekly";
+    private static final String LINE_PREFIX = "Line ";
+    private static final String LINE_SEPARATOR = ": ";
+    private static final String CLASHES_WITH = " clashes with ";
+    private static final int EVENT_FIELDS = 6;
+    private static final int RECURRING_EVENT_FIELDS = 8;
+    private static final int DEADLINE_FIELDS = 5;
+    private static final int ONE_WEEK = 7;
+    private static final int TWO_WEEKS = 14;
+    private final String filePath;
+    private final ModCodeChecker modCodeChecker = ModCodeChecker.getInstance();
+    private final AcademicCalendar academicCalendar = AcademicCalendar.getInstance();
+    private final LookupTable lookupTable = LookupTable.getInstance();
+    private final Logger logger = DukeLogger.getLogger(ImportCommand.class);
+
+    /**
+     * Creates an ImportCommand object.
+     * @param filePath The path of the file to import
+     */
+    public ImportCommand(String filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Executes the importing of every event and deadline in the file.
+     * @param events The TaskList object for events
+     * @param deadlines The TaskList object for deadlines
+     * @param ui The Ui object to display the import message
+     * @param storage The Storage object to access file to load or save the tasks
+     * @return This returns the method in the Ui object which returns the string to display the import message
+     * @throws DukeIOException when the file cannot be read
+     */
+    @Override
+    public String execute(TaskList events, TaskList deadlines, UserInteraction ui, Storage storage)
+            throws DukeIOException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(Paths.get(filePath), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.severe("Unable to read " + filePath);
+            throw new DukeIOException(DukeConstants.IMPORT_FILE_ERROR + filePath);
+        }
+        List<ImportedTask> importedTasks = IntStream.range(0, lines.size()).parallel()
+                .mapToObj(index -> parseLine(index + 1, lines.get(index)))
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+        ArrayList<String> problems = new ArrayList<>();
+        List<ImportedTask> newEvents = new ArrayList<>();
+        List<ImportedTask> newDeadlines = new ArrayList<>();
+        for (ImportedTask importedTask : importedTasks) {
+            if (importedTask.task == null) {
+                problems.add(importedTask.describe(importedTask.error));
+            } else if (importedTask.task.getType().equals(DukeConstants.EVENT_INDICATOR)) {
+                newEvents.add(importedTask);
+            } else {
+                newDeadlines.add(importedTask);
+            }
+        }
+        if (problems.isEmpty()) {
+            findEventClashes(events, newEvents, problems);
+            findDeadlineClashes(deadlines, newDeadlines, problems);
+        }
+        if (!problems.isEmpty()) {
+            return ui.showImportProblems(problems);
+        }
+        for (ImportedTask newEvent : newEvents) {
+            events.addTask(newEvent.task);
+        }
+        for (ImportedTask newDeadline : newDeadlines) {
+            deadlines.addTask(newDeadline.task);
+        }
+        if (!newEvents.isEmpty()) {
+            storage.updateEventList(events);
+        }
+        if (!newDeadlines.isEmpty()) {
+            storage.updateDeadlineList(deadlines);
+        }
+        return ui.showImport(newEvents.size(), newDeadlines.size(), filePath);
+    }
+
+    /**
+     * Finds the new events that clash with each other, by sweeping through them in order of start time,
+     * and those that clash with the events already added.
+     */
+    private void findEventClashes(TaskList events, List<ImportedTask> newEvents, ArrayList<String> problems) {
+        List<ImportedTask> byStart = new ArrayList<>(newEvents);
+        byStart.sort(Comparator.comparingLong(importedTask -> importedTask.task.getStartMinute()));
+        ImportedTask latestEnding = null;
+        for (ImportedTask newEvent : byStart) {
+            if (latestEnding != null && newEvent.task.getStartMinute() <= latestEnding.task.getEndMinute()) {
+                problems.add(newEvent.describe(newEvent.task.displayString() + CLASHES_WITH + LINE_PREFIX
+                        + latestEnding.lineNumber + LINE_SEPARATOR + latestEnding.task.displayString()));
+            }
+            if (latestEnding == null || newEvent.task.getEndMinute() > latestEnding.task.getEndMinute()) {
+                latestEnding = newEvent;
+            }
+        }
+        for (ImportedTask newEvent : newEvents) {
+            try {
+                for (Assignment existingEvent : events.findConflicts(newEvent.task)) {
+                    problems.add(newEvent.describe(newEvent.task.displayString() + CLASHES_WITH
+                            + existingEvent.displayString()));
+                }
+            } catch (ParseException e) {
+                problems.add(newEvent.describe(DukeConstants.EVENT_FORMAT));
+            }
+        }
+    }
+
+    /**
+     * Finds the new deadlines that are due at the same time as another of the same module.
+     */
+    private void findDeadlineClashes(TaskList deadlines, List<ImportedTask> newDeadlines,
+                                     ArrayList<String> problems) {
+        HashMap<String, ImportedTask> dueTimes = new HashMap<>();
+        for (ImportedTask newDeadline : newDeadlines) {
+            Assignment task = newDeadline.task;
+            ImportedTask sameDueTime = dueTimes.putIfAbsent(task.getModCode() + task.getDateTime(), newDeadline);
+            if (sameDueTime != null) {
+                problems.add(newDeadline.describe(task.displayString() + CLASHES_WITH + LINE_PREFIX
+                        + sameDueTime.lineNumber + LINE_SEPARATOR + sameDueTime.task.displayString()));
+            }
+            for (String existingDeadline : checkDeadlineConflict(deadlines, task)) {
+                problems.add(newDeadline.describe(task.displayString() + CLASHES_WITH + existingDeadline));
+            }
+        }
+    }
+
+    /**
+     * Reads one line of the file into the tasks it adds, or a single entry saying why it cannot be added.
+     * Blank lines, comments and the header line add nothing.
+     */
+    private List<ImportedTask> parseLine(int lineNumber, String line) {
+        List<ImportedTask> tasks = new ArrayList<>();
+        String[] fields = line.split(FIELD_SEPARATOR, -1);
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = fields[i].trim();
+        }
+        if (line.trim().isEmpty() || line.trim().startsWith(COMMENT_PREFIX)
+                || (lineNumber == 1 && fields[0].equalsIgnoreCase(HEADER_FIRST_FIELD))) {
+            return tasks;
+        }
+        try {
+            String type = fields[0].toUpperCase(Locale.ROOT);
+            if (type.equals(EVENT_TYPE)
+                    && (fields.length == EVENT_FIELDS || fields.length == RECURRING_EVENT_FIELDS)) {
+                addEvents(lineNumber, fields, tasks);
+            } else if (type.equals(DEADLINE_TYPE) && fields.length == DEADLINE_FIELDS) {
+                LocalDate date = toDate(fields[3]);
+                String time = DateTimeCodec.formatTwelveHourTime(toTime(fields[4]));
+                tasks.add(new ImportedTask(lineNumber, new Deadline(toDescription(fields),
+                        DateTimeCodec.formatDayDate(date), time)));
+            } else {
+                tasks.add(new ImportedTask(lineNumber, DukeConstants.IMPORT_FORMAT));
+            }
+        } catch (ParseException e) {
+            tasks.clear();
+            tasks.add(new ImportedTask(lineNumber, e.getMessage()));
+        }
+        return tasks;
+    }
+
+    /**
+     * Adds the event on the line, and each time it repeats up to the last date given.
+     */
+    private void addEvents(int lineNumber, String[] fields, List<ImportedTask> tasks) throws ParseException {
+        String description = toDescription(fields);
+        LocalDate date = toDate(fields[3]);
+        LocalTime startTime = toTime(fields[4]);
+        LocalTime endTime = toTime(fields[5]);
+        if (!startTime.isBefore(endTime)) {
+            throw new ParseException(DukeConstants.EVENT_FORMAT, 0);
+        }
+        LocalDate lastDate = date;
+        int daysBetween = ONE_WEEK;
+        if (fields.length == RECURRING_EVENT_FIELDS) {
+            if (fields[6].equalsIgnoreCase(REPEAT_BIWEEKLY)) {
+                daysBetween = TWO_WEEKS;
+            } else if (!fields[6].equalsIgnoreCase(REPEAT_WEEKLY)) {
+                throw new ParseException(DukeConstants.IMPORT_FORMAT, 0);
+            }
+            lastDate = toDate(fields[7]);
+            if (lastDate.isBefore(date)) {
+                throw new ParseException(DukeConstants.RECUR_EVENT_DATE_FORMAT_ERROR, 0);
+            }
+        }
+        String start = DateTimeCodec.formatTwelveHourTime(startTime);
+        String end = DateTimeCodec.formatTwelveHourTime(endTime);
+        while (!date.isAfter(lastDate)) {
+            if (!academicCalendar.contains(date)) {
+                throw new ParseException(DukeConstants.INVALID_ACADEMIC_YEAR_DATE, 0);
+            }
+            tasks.add(new ImportedTask(lineNumber, new Event(description, DateTimeCodec.formatDayDate(date),
+                    start, end)));
+            date = date.plusDays(daysBetween);
+        }
+    }
+
+    private String toDescription(String[] fields) throws ParseException {
+        if (!modCodeChecker.isModCode(fields[1])) {
+            throw new ParseException(DukeConstants.INVALID_MODCODE_ERROR.trim(), 0);
+        }
+        if (fields[2].isEmpty()) {
+            throw new ParseException(DukeConstants.IMPORT_FORMAT, 0);
+        }
+        return fields[1] + DukeConstants.BLANK_SPACE + fields[2];
+    }
+
+    /**
+     * Reads a date such as "13/11/2019" or "week 13 wed", which must be in the academic calendar.
+     */
+    private LocalDate toDate(String field) throws ParseException {
+        LocalDate date;
+        try {
+            date = DateTimeCodec.parseDate(field);
+        } catch (ParseException e) {
+            String weekDate = lookupTable.getValue(field);
+            if (weekDate == null) {
+                throw new ParseException(DukeConstants.INVALID_ACADEMIC_YEAR_DATE, 0);
+            }
+            date = DateTimeCodec.parseDate(weekDate);
+        }
+        if (!academicCalendar.contains(date)) {
+            throw new ParseException(DukeConstants.INVALID_ACADEMIC_YEAR_DATE, 0);
+        }
+        return date;
+    }
+
+    private LocalTime toTime(String field) throws ParseException {
+        try {
+            return DateTimeCodec.parseTime(field);
+        } catch (ParseException e) {
+            throw new ParseException(DukeConstants.EVENT_TIME_FORMAT_ERROR.trim(), 0);
+        }
+    }
+
+    /**
+     * A task read from a line of the file, or the reason the line cannot be imported.
+     */
+    private static class ImportedTask {
+        private final int lineNumber;
+        private final Assignment task;
+        private final String error;
+
+        ImportedTask(int lineNumber, Assignment task) {
+            this.lineNumber = lineNumber;
+            this.task = task;
+            this.error = null;
+        }
+
+        ImportedTask(int lineNumber, String error) {
+            this.lineNumber = lineNumber;
+            this.task = null;
+            this.error = error;
+        }
+
+        String describe(String problem) {
+            return LINE_PREFIX + lineNumber + LINE_SEPARATOR + problem;
+        }
+    }
+}
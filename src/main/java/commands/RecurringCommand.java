@@ -1,6 +1,7 @@
 package commands;
 
 import commons.DukeConstants;
+import commons.JournalOperation;
 import commons.Storage;
 import commons.UserInteraction;
 import tasks.Assignment;
@@ -85,10 +86,6 @@ public class RecurringCommand extends Command {
         if (isRecur && isBiweekly) {
             do {
                 Assignment task = new Event(description, startDateString, startTimeString, endTimeString);
-                eventConflict = super.checkEventConflict(events, task);
-                if (!eventConflict.isEmpty()) {
-                    break;
-                }
                 temp.add(task);
                 startOfFollowingWeek = getFollowingWeekDate(startDate);
                 startDateString = DukeConstants.DAY_DATE_FORMAT.format(startOfFollowingWeek);
@@ -97,10 +94,6 @@ public class RecurringCommand extends Command {
         } else if (isRecur) {
             do {
                 Assignment task = new Event(description, startDateString, startTimeString, endTimeString);
-                eventConflict = super.checkEventConflict(events, task);
-                if (!eventConflict.isEmpty()) {
-                    break;
-                }
                 temp.add(task);
                 startOfNextWeek = getNextWeekDate(startDate);
                 startDateString = DukeConstants.DAY_DATE_FORMAT.format(startOfNextWeek);
@@ -127,9 +120,11 @@ public class RecurringCommand extends Command {
         }
 
         if (isRecur) {
+            eventConflict = super.checkEventConflict(events, temp);
             if (eventConflict.isEmpty()) {
                 for (Assignment taskInList : temp) {
                     events.addTask(taskInList);
+                    storage.journalEvent(JournalOperation.ADD, taskInList, events);
                 }
             } else {
                 return ui.showConflictRecurring(eventConflict);
@@ -137,9 +132,9 @@ public class RecurringCommand extends Command {
         } else {
             for (Assignment taskInList : temp) {
                 events.removeTask(taskInList);
+                storage.journalEvent(JournalOperation.REMOVE, taskInList, events);
             }
         }
-        storage.updateEventList(events);
         return ui.showRecurring(description, oldStartDateString, endDateString, isBiweekly, isRecur);
     }
 }
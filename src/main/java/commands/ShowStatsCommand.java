@@ -0,0 +1,28 @@
+package commands;
+
+import commons.PerformanceMetrics;
+import commons.Storage;
+import commons.UserInteraction;
+import tasks.TaskList;
+
+/**
+ * Represents the command to show how long commands have taken, how much has been saved and read,
+ * how many tasks there are and how much memory is in use.
+ */
+public class ShowStatsCommand extends Command {
+
+    /**
+     * Executes the displaying of the statistics kept since BetterDuke started.
+     * @param events The TaskList object for events
+     * @param deadlines The TaskList object for deadlines
+     * @param ui The Ui object to display the statistics
+     * @param storage The Storage object to access file to load or save the tasks
+     * @return This returns the method in the Ui object which returns the string to display the statistics
+     */
+    @Override
+    public String execute(TaskList events, TaskList deadlines, UserInteraction ui, Storage storage) {
+        Runtime runtime = Runtime.getRuntime();
+        long usedHeap = runtime.totalMemory() - runtime.freeMemory();
+        return ui.showStats(PerformanceMetrics.getInstance(), events, deadlines, usedHeap, runtime.maxMemory());
+    }
+}
@@ -1,11 +1,8 @@
 package commands;
 
-import userinterface.ProgressController;
 import tasks.TaskList;
-import javafx.fxml.FXMLLoader;
+import tasks.TaskStatistics;
 import javafx.util.Pair;
-import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashMap;
 
 /**
@@ -14,7 +11,6 @@ import java.util.HashMap;
 public class UpdateProgressIndicatorCommand {
     TaskList eventList;
     TaskList deadlineList;
-    private static final String TICK_SYMBOL = "\u2713";
 
     /**
      * Creates UpdateProgressIndicator object.
@@ -27,56 +23,21 @@ public class UpdateProgressIndicatorCommand {
     }
 
     /**
-     * Load the fxml to update the progress indicator.
-     * @param eventList The TaskList object for events
-     * @param deadlineList The Tasklist object for deadlines
-     * @throws IOException if the input is invalid
-     */
-    public Pair<HashMap<String, String>, ArrayList<Pair<String, Pair<String, String>>>>
-        getWholeDate(TaskList eventList, TaskList deadlineList) throws IOException {
-        FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/view/ProgressIndicator.fxml"));
-        fxmlLoader.load();
-        Pair<HashMap<String, String>,
-                ArrayList<Pair<String, Pair<String, String>>>> result
-                = fxmlLoader.<ProgressController>getController()
-                .getProgressIndicatorMap(eventList.getMap(), deadlineList.getMap());
-        return result;
-    }
-
-    /**
-     * This method gets the map which contains the module code.
-     * @param wholeData The entire map which contains the module code with the description and tick/cross
+     * This method calculate the values to be shown in the progress indicator from the live counts of both lists.
+     * @return module code, total number of tasks and completed tasks
      */
-    public HashMap<String, String> getModuleMap(Pair<HashMap<String, String>,
-            ArrayList<Pair<String, Pair<String, String>>>> wholeData) {
-        HashMap<String, String> modulesMap = wholeData.getKey();
-        return modulesMap;
+    public HashMap<String, Pair<Integer, Integer>> getValues() {
+        HashMap<String, Pair<Integer, Integer>> moduleCodeAndTotalNumOfTasksAndCompletedValue = new HashMap<>();
+        addValues(eventList.getStatistics(), moduleCodeAndTotalNumOfTasksAndCompletedValue);
+        addValues(deadlineList.getStatistics(), moduleCodeAndTotalNumOfTasksAndCompletedValue);
+        return moduleCodeAndTotalNumOfTasksAndCompletedValue;
     }
 
-    /**
-     * This method calculate the values to be shown in the progress indicator.
-     * @param moduleMap The map that contains the module code
-     * @param wholeData The entire map which contains the module code, description and tick/cross
-     * @return module code, completed tasks and total number of tasks
-     */
-    public HashMap<String, Pair<Integer, Integer>>
-        getValues(HashMap<String, String> moduleMap, Pair<HashMap<String, String>,
-            ArrayList<Pair<String, Pair<String, String>>>> wholeData) {
-        HashMap<String, Pair<Integer, Integer>> moduleCodeAndTotalNumOfTasksAndCompletedValue = new HashMap<>();
-        for (String module : moduleMap.keySet()) {
-            int totalNumTasks = 0;
-            int completedValue = 0;
-            ArrayList<Pair<String, Pair<String, String>>> tasks = wholeData.getValue();
-            for (Pair<String, Pair<String, String>> as : tasks) {
-                if (as.getKey().equals(module)) {
-                    totalNumTasks += 1;
-                    if (as.getValue().getKey().equals(TICK_SYMBOL)) {
-                        completedValue += 1;
-                    }
-                }
-            }
-            moduleCodeAndTotalNumOfTasksAndCompletedValue.put(module, new Pair<>(totalNumTasks, completedValue));
+    private void addValues(TaskStatistics statistics, HashMap<String, Pair<Integer, Integer>> values) {
+        for (String module : statistics.getModules()) {
+            Pair<Integer, Integer> counted = values.getOrDefault(module, new Pair<>(0, 0));
+            values.put(module, new Pair<>(counted.getKey() + statistics.getModuleTotal(module),
+                    counted.getValue() + statistics.getModuleDone(module)));
         }
-        return moduleCodeAndTotalNumOfTasksAndCompletedValue;
     }
 }
@@ -0,0 +1,231 @@
+package commons;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+/**
+ * The weeks of every semester in the academic calendar. Semesters are listed in documents/Semesters.txt,
+ * each with a table of its dates such as documents/Lookup.txt.
+ * The week of every date is kept in an array indexed by days from the start of the earliest semester,
+ * so finding the week of a date, or the date of a day in a week, does not build or look up any strings.
+ */
+public class AcademicCalendar {
+    private static final String SEMESTERS_FILE = "documents/Semesters.txt";
+    private static final String KEY_VALUE_SEPARATOR = ":";
+    private static final String[] DAY_NAMES = {"mon", "tue", "wed", "thu", "fri", "sat", "sun"};
+    private static volatile AcademicCalendar academicCalendar;
+    private final Logger logger = DukeLogger.getLogger(AcademicCalendar.class);
+    private final List<HashMap<String, AcademicWeek>> weeksBySemester = new ArrayList<>();
+    private final List<AcademicWeek> firstWeeks = new ArrayList<>();
+    private long firstEpochDay;
+    private AcademicWeek[] weekOfDay = new AcademicWeek[0];
+
+    /**
+     * Creates an AcademicCalendar object holding the semesters listed in documents/Semesters.txt.
+     */
+    private AcademicCalendar() {
+        for (String[] semester : readEntries(SEMESTERS_FILE)) {
+            addSemester(semester[0], readEntries(semester[1]));
+        }
+    }
+
+    /**
+     * Creates a single instance of AcademicCalendar object.
+     */
+    public static AcademicCalendar getInstance() {
+        if (academicCalendar == null) {
+            synchronized (AcademicCalendar.class) {
+                if (academicCalendar == null) {
+                    academicCalendar = new AcademicCalendar();
+                }
+            }
+        }
+        return academicCalendar;
+    }
+
+    /**
+     * This method checks whether the date is in any semester of the academic calendar.
+     */
+    public boolean contains(LocalDate date) {
+        return getWeek(date) != null;
+    }
+
+    /**
+     * This method finds the week the date is in.
+     * @return The week, or null if the date is not in any semester
+     */
+    public AcademicWeek getWeek(LocalDate date) {
+        long offset = date.toEpochDay() - firstEpochDay;
+        if (offset < 0 || offset >= weekOfDay.length) {
+            return null;
+        }
+        return weekOfDay[(int) offset];
+    }
+
+    /**
+     * This method finds the week with the given name, such as "week 5" or "Recess Week", ignoring case.
+     * If several semesters have such a week, the one in the current semester is found.
+     * @return The week, or null if the current semester has no such week
+     */
+    public AcademicWeek findWeek(String label) {
+        if (weeksBySemester.isEmpty()) {
+            return null;
+        }
+        return weeksBySemester.get(currentSemester(LocalDate.now())).get(normalise(label));
+    }
+
+    /**
+     * This method finds the week to show on the given date: the week it is in,
+     * or the first week of the latest semester to have started if the date is not in any semester.
+     * @return The week, or null if there are no semesters
+     */
+    public AcademicWeek getCurrentWeek(LocalDate date) {
+        AcademicWeek week = getWeek(date);
+        if (week != null || firstWeeks.isEmpty()) {
+            return week;
+        }
+        return firstWeeks.get(currentSemester(date));
+    }
+
+    /**
+     * Finds the semester the date is in, or else the latest one to have started before it, or else the first one.
+     */
+    private int currentSemester(LocalDate date) {
+        AcademicWeek week = getWeek(date);
+        int current = 0;
+        for (int i = 0; i < firstWeeks.size(); i++) {
+            AcademicWeek firstWeek = firstWeeks.get(i);
+            if (week != null && firstWeek.getSemester().equals(week.getSemester())) {
+                return i;
+            }
+            if (!firstWeek.getFirstDate().isAfter(date)) {
+                current = i;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Adds a semester from entries such as "Week 1 Mon" to "12/08/2019", ignoring any other entries.
+     */
+    private void addSemester(String semester, List<String[]> entries) {
+        HashMap<String, AcademicWeek> weeks = new HashMap<>();
+        List<LocalDate> dates = new ArrayList<>();
+        List<AcademicWeek> weekOfDates = new ArrayList<>();
+        AcademicWeek firstWeek = null;
+        for (String[] entry : entries) {
+            int daySeparator = entry[0].lastIndexOf(DukeConstants.BLANK_SPACE);
+            DayOfWeek day = daySeparator < 0 ? null : toDay(entry[0].substring(daySeparator + 1));
+            LocalDate date = toDate(entry[1]);
+            if (day == null || date == null || date.getDayOfWeek() != day) {
+                continue;
+            }
+            String label = entry[0].substring(0, daySeparator).trim();
+            AcademicWeek week = weeks.computeIfAbsent(normalise(label),
+                key -> new AcademicWeek(semester, label, date.minusDays(day.getValue() - 1)));
+            if (firstWeek == null || week.getFirstDate().isBefore(firstWeek.getFirstDate())) {
+                firstWeek = week;
+            }
+            dates.add(date);
+            weekOfDates.add(week);
+        }
+        if (firstWeek == null) {
+            logger.severe("No dates found for " + semester);
+            return;
+        }
+        int index = 0;
+        while (index < firstWeeks.size() && firstWeeks.get(index).getFirstDate().isBefore(firstWeek.getFirstDate())) {
+            index++;
+        }
+        firstWeeks.add(index, firstWeek);
+        weeksBySemester.add(index, weeks);
+        for (int i = 0; i < dates.size(); i++) {
+            setWeekOfDay(dates.get(i), weekOfDates.get(i));
+        }
+    }
+
+    /**
+     * Records the week of the date, growing the array to cover the date if needed.
+     */
+    private void setWeekOfDay(LocalDate date, AcademicWeek week) {
+        long epochDay = date.toEpochDay();
+        if (weekOfDay.length == 0) {
+            firstEpochDay = epochDay;
+        }
+        if (epochDay < firstEpochDay) {
+            AcademicWeek[] grown = new AcademicWeek[(int) (weekOfDay.length + firstEpochDay - epochDay)];
+            System.arraycopy(weekOfDay, 0, grown, (int) (firstEpochDay - epochDay), weekOfDay.length);
+            weekOfDay = grown;
+            firstEpochDay = epochDay;
+        } else if (epochDay - firstEpochDay >= weekOfDay.length) {
+            AcademicWeek[] grown = new AcademicWeek[(int) (epochDay - firstEpochDay + 1)];
+            System.arraycopy(weekOfDay, 0, grown, 0, weekOfDay.length);
+            weekOfDay = grown;
+        }
+        weekOfDay[(int) (epochDay - firstEpochDay)] = week;
+    }
+
+    /**
+     * Reads the lines of the form "key : value" in a resource file.
+     */
+    private List<String[]> readEntries(String resource) {
+        List<String[]> entries = new ArrayList<>();
+        InputStream is = this.getClass().getClassLoader().getResourceAsStream(resource);
+        if (is == null) {
+            logger.severe(resource + " not found");
+            return entries;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(KEY_VALUE_SEPARATOR, 2);
+                if (parts.length == 2) {
+                    entries.add(new String[]{parts[0].trim(), parts[1].trim()});
+                }
+            }
+        } catch (IOException e) {
+            logger.severe("Unable to read " + resource);
+        }
+        return entries;
+    }
+
+    /**
+     * Translates a day name such as "Mon" to the day, or null if it is not one.
+     */
+    static DayOfWeek toDay(String dayName) {
+        String day = dayName.trim().toLowerCase(Locale.ROOT);
+        for (int i = 0; i < DAY_NAMES.length; i++) {
+            if (DAY_NAMES[i].equals(day)) {
+                return DayOfWeek.of(i + 1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Translates a date such as "12/08/2019" to the date, or null if it is not a valid date.
+     */
+    static LocalDate toDate(String date) {
+        try {
+            LocalDate parsed = LocalDate.parse(date.trim(), DukeConstants.LOCAL_DATE_INPUT_FORMAT);
+            return DateTimeCodec.formatDate(parsed).equals(date.trim()) ? parsed : null;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String normalise(String label) {
+        return label.trim().replaceAll("\\s+", DukeConstants.BLANK_SPACE).toLowerCase(Locale.ROOT);
+    }
+}
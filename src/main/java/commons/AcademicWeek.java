@@ -0,0 +1,57 @@
+package commons;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * Represents one week of a semester in the academic calendar, such as Week 5 or Recess Week.
+ */
+public class AcademicWeek {
+    private static final String RANGE_SEPARATOR = " to ";
+    private static final int DAYS_PER_WEEK = 7;
+    private final String semester;
+    private final String label;
+    private final LocalDate firstDate;
+
+    /**
+     * Creates an AcademicWeek object.
+     * @param semester The name of the semester the week is in
+     * @param label The name of the week, such as "Week 5"
+     * @param firstDate The date of the monday of the week
+     */
+    public AcademicWeek(String semester, String label, LocalDate firstDate) {
+        this.semester = semester;
+        this.label = label;
+        this.firstDate = firstDate;
+    }
+
+    public String getSemester() {
+        return semester;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public LocalDate getFirstDate() {
+        return firstDate;
+    }
+
+    public LocalDate getLastDate() {
+        return firstDate.plusDays(DAYS_PER_WEEK - 1);
+    }
+
+    /**
+     * This method gets the date of the given day in this week.
+     */
+    public LocalDate getDate(DayOfWeek day) {
+        return firstDate.plusDays(day.getValue() - 1);
+    }
+
+    /**
+     * This method gets the dates the week covers, such as "09/09/2019 to 15/09/2019".
+     */
+    public String getRange() {
+        return DateTimeCodec.formatDate(firstDate) + RANGE_SEPARATOR + DateTimeCodec.formatDate(getLastDate());
+    }
+}
@@ -0,0 +1,126 @@
+package commons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Hands log records to another handler on a thread of its own, so that logging never waits for the disk.
+ * Records are kept in a ring buffer of fixed size until the logging thread, which wakes up every 100 ms,
+ * writes them. When the buffer is full, new records are dropped instead of holding up the caller,
+ * and how many were dropped is logged once there is room again.
+ * The handler that writes them, such as a FileHandler, is only created on the logging thread.
+ */
+public class AsyncLogHandler extends Handler {
+    private static final long WAIT_MILLIS = 100;
+    private final ArrayBlockingQueue<LogRecord> buffer;
+    private final Supplier<Handler> targetFactory;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writer;
+    private Handler target;
+    private long reportedDropCount;
+
+    /**
+     * Creates an AsyncLogHandler object and starts its logging thread.
+     * @param capacity The number of records the buffer can hold
+     * @param targetFactory Creates the handler that writes the records, or returns null if there is none
+     */
+    public AsyncLogHandler(int capacity, Supplier<Handler> targetFactory) {
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.targetFactory = targetFactory;
+        writer = new Thread(this::writeRecords, "async-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush));
+    }
+
+    /**
+     * This method queues the record to be written, or drops it if the buffer is full.
+     * The source of the record is taken to be its logger, so that it is not looked up from the wrong thread.
+     * @param record The record to write
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        record.setSourceClassName(record.getLoggerName());
+        record.setSourceMethodName(null);
+        if (!buffer.offer(record)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Retrieves how many records have been dropped because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * This method writes every record queued so far on the calling thread.
+     */
+    @Override
+    public synchronized void flush() {
+        List<LogRecord> records = new ArrayList<>();
+        buffer.drainTo(records);
+        write(records);
+    }
+
+    /**
+     * This method writes every record queued so far and closes the handler that writes them.
+     */
+    @Override
+    public synchronized void close() {
+        writer.interrupt();
+        flush();
+        if (target != null) {
+            target.close();
+        }
+    }
+
+    private void writeRecords() {
+        List<LogRecord> records = new ArrayList<>();
+        synchronized (this) {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    wait(WAIT_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                buffer.drainTo(records);
+                write(records);
+                records.clear();
+            }
+        }
+    }
+
+    private void write(List<LogRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        if (target == null) {
+            target = targetFactory.get();
+            if (target == null) {
+                return;
+            }
+        }
+        for (LogRecord record : records) {
+            target.publish(record);
+        }
+        long dropped = droppedCount.get() - reportedDropCount;
+        if (dropped > 0) {
+            reportedDropCount += dropped;
+            LogRecord droppedRecord = new LogRecord(Level.SEVERE, dropped + " log records were dropped");
+            droppedRecord.setLoggerName(AsyncLogHandler.class.getSimpleName());
+            target.publish(droppedRecord);
+        }
+        target.flush();
+    }
+}
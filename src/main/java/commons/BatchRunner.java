@@ -0,0 +1,106 @@
+package commons;
+
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs BetterDuke without a display, on commands read one per line from a script file or standard input.
+ * Each response is printed to standard output after the command it answers, so a run can be compared with
+ * the expected output, while how long each command took is reported on standard error,
+ * followed by a summary for each kind of command. How long each phase of startup took is reported first.
+ * The times for each kind of command are kept in a LatencyHistogram, so a long run takes no more memory than
+ * a short one and its percentiles match those shown by show/stats.
+ */
+public class BatchRunner {
+    private static final String PROMPT = "> ";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double MEDIAN = 50;
+    private static final double NINETY_NINTH = 99;
+    private final Duke duke;
+    private final PrintStream output;
+    private final PrintStream report;
+    private final TreeMap<String, LatencyHistogram> latencies = new TreeMap<>();
+
+    /**
+     * Creates a BatchRunner object.
+     * @param duke The Duke object to run the commands on
+     * @param output Where the responses are printed
+     * @param report Where how long each command took is printed
+     */
+    public BatchRunner(Duke duke, PrintStream output, PrintStream report) {
+        this.duke = duke;
+        this.output = output;
+        this.report = report;
+    }
+
+    /**
+     * Runs the commands in the script given, or else on standard input, on a new Duke without a display.
+     * @param args The path of the script, if any
+     */
+    public static void main(String[] args) throws IOException {
+        DukeLogger.initialise();
+        PrintStream output = new PrintStream(new FileOutputStream(FileDescriptor.out), true,
+                StandardCharsets.UTF_8.name());
+        Duke duke = new Duke(true);
+        duke.whenLoaded().join();
+        System.err.println(duke.getStartupReport());
+        BatchRunner batchRunner = new BatchRunner(duke, output, System.err);
+        BufferedReader script = args.length == 0
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(args[0]), StandardCharsets.UTF_8);
+        try (BufferedReader reader = script) {
+            batchRunner.run(reader);
+        }
+        batchRunner.reportSummary();
+    }
+
+    /**
+     * This method runs each command read until the script ends or the user says bye.
+     * @param script The commands, one per line
+     * @return The number of commands run
+     */
+    public int run(BufferedReader script) throws IOException {
+        int count = 0;
+        String input;
+        while ((input = script.readLine()) != null) {
+            if (input.trim().isEmpty()) {
+                continue;
+            }
+            long start = System.nanoTime();
+            String response = duke.getResponse(input);
+            final long elapsed = System.nanoTime() - start;
+            count++;
+            output.println(PROMPT + input);
+            output.println(response);
+            String command = input.trim().split(DukeConstants.BLANK_SPACE, 2)[0];
+            latencies.computeIfAbsent(command, key -> new LatencyHistogram()).record(elapsed);
+            report.printf("%10.3f ms  %s%n", elapsed / NANOS_PER_MILLI, input);
+            if (input.trim().equals(DukeConstants.BYE_HEADER)) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * This method prints how many of each kind of command were run and how long they took.
+     */
+    public void reportSummary() {
+        report.printf("%-16s %8s %12s %12s %12s %12s%n", "command", "count", "mean ms", "p50 ms", "p99 ms", "max ms");
+        for (Map.Entry<String, LatencyHistogram> command : latencies.entrySet()) {
+            LatencyHistogram times = command.getValue();
+            report.printf("%-16s %8d %12.3f %12.3f %12.3f %12.3f%n", command.getKey(), times.getCount(),
+                    times.getMean() / NANOS_PER_MILLI, times.getPercentile(MEDIAN) / NANOS_PER_MILLI,
+                    times.getPercentile(NINETY_NINTH) / NANOS_PER_MILLI, times.getMax() / NANOS_PER_MILLI);
+        }
+    }
+}
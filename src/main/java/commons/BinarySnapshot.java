@@ -0,0 +1,257 @@
+package commons;
+
+import tasks.Assignment;
+import tasks.Deadline;
+import tasks.Event;
+import tasks.TaskList;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Reads and writes snapshots of a TaskList in a compact binary form.
+ * A snapshot starts with a magic number and a version, followed by a table of the module codes used,
+ * and then one record per task holding a flags byte, the index of its module code,
+ * its times as minutes since the epoch and its description as length-prefixed UTF-8.
+ * Tasks whose fields cannot be packed are kept as their text storage string instead,
+ * and any of those that can no longer be read back are logged and skipped.
+ */
+public class BinarySnapshot {
+    private static final int MAGIC = 0x44554B42;
+    private static final byte VERSION = 1;
+    private static final int IS_DEADLINE = 1;
+    private static final int IS_DONE = 1 << 1;
+    private static final int HAS_REMINDER = 1 << 2;
+    private static final int HAS_REMIND_TIME = 1 << 3;
+    private static final int IS_TEXT_RECORD = 1 << 4;
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final int VARINT_PAYLOAD_MASK = 0x7F;
+    private static final int VARINT_CONTINUATION = 0x80;
+    private static final Logger logger = DukeLogger.getLogger(BinarySnapshot.class);
+
+    /**
+     * This method packs the given tasks into a binary snapshot.
+     * @param tasks The tasks to save
+     * @return The contents of the snapshot file
+     */
+    public static byte[] encode(Collection<Assignment> tasks) {
+        HashMap<String, Integer> moduleIndex = new HashMap<>();
+        List<String> modules = new ArrayList<>();
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        for (Assignment task : tasks) {
+            writeRecord(records, task, moduleIndex, modules);
+        }
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream(records.size() + modules.size() * 8 + 16);
+        writeInt(snapshot, MAGIC);
+        snapshot.write(VERSION);
+        writeVarInt(snapshot, modules.size());
+        for (String module : modules) {
+            writeString(snapshot, module);
+        }
+        writeVarInt(snapshot, tasks.size());
+        snapshot.write(records.toByteArray(), 0, records.size());
+        return snapshot.toByteArray();
+    }
+
+    /**
+     * This method reads a binary snapshot and adds the tasks in it to the list.
+     * @param filePath The path of the snapshot
+     * @param scanner The scanner used for records kept as text
+     * @param list The TaskList to populate
+     * @throws IOException when the snapshot cannot be read or was written by an unknown version
+     */
+    public static void read(Path filePath, TaskRecordScanner scanner, TaskList list) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        if (!buffer.hasRemaining()) {
+            return;
+        }
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException(filePath.getFileName() + " is not a task snapshot");
+            }
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new IOException(filePath.getFileName() + " was written by unsupported version " + version);
+            }
+            String[] modules = new String[readVarInt(buffer)];
+            for (int i = 0; i < modules.length; i++) {
+                modules[i] = readString(buffer);
+            }
+            int recordCount = readVarInt(buffer);
+            for (int i = 0; i < recordCount; i++) {
+                Assignment task = readRecord(buffer, modules, scanner);
+                if (task == null) {
+                    logger.severe("Skipping unreadable record in " + filePath.getFileName());
+                } else {
+                    list.addTask(task);
+                }
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException(filePath.getFileName() + " is truncated");
+        }
+    }
+
+    /**
+     * This method converts a binary snapshot into the text format, so it can be read by older versions.
+     * @param binaryPath The path of the binary snapshot
+     * @param textPath The path to write the text snapshot to
+     * @throws IOException when either file cannot be accessed
+     */
+    public static void exportToText(Path binaryPath, Path textPath) throws IOException {
+        TaskList list = new TaskList();
+        read(binaryPath, new TaskRecordScanner(), list);
+        StringBuilder text = new StringBuilder();
+        for (Assignment task : list.getList()) {
+            text.append(task.toString()).append(System.lineSeparator());
+        }
+        Files.write(textPath, text.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * This method converts a text snapshot such as event.txt into the binary format.
+     * @param textPath The path of the text snapshot
+     * @param binaryPath The path to write the binary snapshot to
+     * @throws IOException when either file cannot be accessed
+     */
+    public static void importFromText(Path textPath, Path binaryPath) throws IOException {
+        TaskList list = new TaskList();
+        new TaskRecordScanner().scanFile(textPath, list);
+        Files.write(binaryPath, encode(list.getList()));
+    }
+
+    private static void writeRecord(ByteArrayOutputStream out, Assignment task, HashMap<String, Integer> moduleIndex,
+                                    List<String> modules) {
+        boolean isDeadline = task instanceof Deadline;
+        int flags = (isDeadline ? IS_DEADLINE : 0) | (task.getStatus() ? IS_DONE : 0)
+                | (task.getIsReminder() ? HAS_REMINDER : 0);
+        boolean hasRemindTime = !task.getRemindTime().isEmpty();
+        long start = task.getStartMinute();
+        long end = task.getEndMinute();
+        Integer remindMinute = hasRemindTime ? toRemindMinute(task.getRemindTime()) : null;
+        if (!fitsInInt(start) || !fitsInInt(end) || (hasRemindTime && remindMinute == null)) {
+            out.write(flags | IS_TEXT_RECORD);
+            writeString(out, task.toString());
+            return;
+        }
+        out.write(flags | (hasRemindTime ? HAS_REMIND_TIME : 0));
+        String module = task.getModCode();
+        Integer index = moduleIndex.get(module);
+        if (index == null) {
+            index = modules.size();
+            moduleIndex.put(module, index);
+            modules.add(module);
+        }
+        writeVarInt(out, index);
+        writeInt(out, (int) start);
+        if (!isDeadline) {
+            writeInt(out, (int) end);
+        }
+        if (hasRemindTime) {
+            writeInt(out, remindMinute.intValue());
+        }
+        String description = task.getDescription();
+        writeString(out, description.endsWith(DukeConstants.BLANK_SPACE)
+                ? description.substring(0, description.length() - 1) : description);
+    }
+
+    private static Assignment readRecord(ByteBuffer buffer, String[] modules, TaskRecordScanner scanner) {
+        int flags = buffer.get() & 0xFF;
+        if ((flags & IS_TEXT_RECORD) != 0) {
+            return scanner.parse(readString(buffer));
+        }
+        String module = modules[readVarInt(buffer)];
+        LocalDateTime start = fromEpochMinute(buffer.getInt());
+        LocalDateTime end = (flags & IS_DEADLINE) != 0 ? start : fromEpochMinute(buffer.getInt());
+        final String remindTime = (flags & HAS_REMIND_TIME) != 0
+                ? DateTimeCodec.formatDayDateTime(fromEpochMinute(buffer.getInt())) : DukeConstants.NO_FIELD;
+        String description = module + DukeConstants.BLANK_SPACE + readString(buffer);
+        String date = DateTimeCodec.formatDayDate(start.toLocalDate());
+        Assignment task;
+        if ((flags & IS_DEADLINE) != 0) {
+            task = new Deadline(description, date, DateTimeCodec.formatTwelveHourTime(start.toLocalTime()));
+        } else {
+            task = new Event(description, date, DateTimeCodec.formatTwelveHourTime(start.toLocalTime()),
+                    DateTimeCodec.formatTwelveHourTime(end.toLocalTime()));
+        }
+        task.setDone((flags & IS_DONE) != 0);
+        task.setReminder((flags & HAS_REMINDER) != 0);
+        task.setRemindTime(remindTime);
+        return task;
+    }
+
+    private static boolean fitsInInt(long epochMinute) {
+        return epochMinute != Assignment.UNKNOWN_TIME && epochMinute == (int) epochMinute;
+    }
+
+    private static Integer toRemindMinute(String remindTime) {
+        try {
+            LocalDateTime time = DateTimeCodec.parseDayDateTime(remindTime);
+            long remindMinute = time.toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_MINUTE;
+            boolean isExact = remindTime.equals(DateTimeCodec.formatDayDateTime(time));
+            return isExact && fitsInInt(remindMinute) ? (int) remindMinute : null;
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    private static LocalDateTime fromEpochMinute(int epochMinute) {
+        return LocalDateTime.ofEpochSecond((long) epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~VARINT_PAYLOAD_MASK) != 0) {
+            out.write((value & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION);
+            value >>>= VARINT_PAYLOAD_BITS;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        int current;
+        do {
+            current = buffer.get() & 0xFF;
+            value |= (current & VARINT_PAYLOAD_MASK) << shift;
+            shift += VARINT_PAYLOAD_BITS;
+        } while ((current & VARINT_CONTINUATION) != 0);
+        return value;
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = readVarInt(buffer);
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
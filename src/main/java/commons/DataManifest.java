@@ -0,0 +1,102 @@
+package commons;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Keeps a stamp of what was last saved in the data folder, one "key=value" line each, such as the checksum
+ * of event.txt when it was written and the version of the preloaded events already added.
+ * Startup compares these with what it reads to tell whether anything needs to be written again.
+ */
+public class DataManifest {
+    private static final String KEY_VALUE_SEPARATOR = "=";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 8192;
+    private final Path filePath;
+    private final TreeMap<String, String> stamps = new TreeMap<>();
+    private final Logger logger = DukeLogger.getLogger(DataManifest.class);
+
+    /**
+     * Creates a DataManifest object holding the stamps in the file, if there is one.
+     * @param filePath The path of the manifest file
+     */
+    public DataManifest(String filePath) {
+        this.filePath = Paths.get(filePath);
+        if (!Files.exists(this.filePath)) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(this.filePath, StandardCharsets.UTF_8)) {
+                int separator = line.indexOf(KEY_VALUE_SEPARATOR);
+                if (separator > 0) {
+                    stamps.put(line.substring(0, separator), line.substring(separator + 1));
+                }
+            }
+        } catch (IOException e) {
+            logger.severe("Unable to read " + filePath + ", so every data file will be saved again");
+        }
+    }
+
+    /**
+     * Retrieves the stamp kept for the key.
+     * @param key The name of the stamp, such as "event"
+     * @return The stamp, or null if none has been saved
+     */
+    public synchronized String get(String key) {
+        return stamps.get(key);
+    }
+
+    /**
+     * Sets the stamps given and writes the manifest to a temporary file, which is then renamed over the old one.
+     * @param newStamps The stamps to set, by key
+     * @throws IOException when the manifest cannot be written
+     */
+    public synchronized void save(Map<String, String> newStamps) throws IOException {
+        stamps.putAll(newStamps);
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, String> stamp : stamps.entrySet()) {
+            lines.add(stamp.getKey() + KEY_VALUE_SEPARATOR + stamp.getValue());
+        }
+        Path temporaryPath = Paths.get(filePath.toString() + TEMPORARY_FILE_SUFFIX);
+        Files.write(temporaryPath, lines, StandardCharsets.UTF_8);
+        Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Makes the stamp for the content given.
+     * @param content The bytes to stamp
+     * @return The CRC-32 checksum of the bytes, in hexadecimal
+     */
+    public static String checksum(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content, 0, content.length);
+        return Long.toHexString(crc.getValue());
+    }
+
+    /**
+     * Makes the stamp for everything left in the stream given.
+     * @param content The stream to stamp
+     * @return The CRC-32 checksum of the bytes read, in hexadecimal
+     * @throws IOException when the stream cannot be read
+     */
+    public static String checksum(InputStream content) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int length;
+        while ((length = content.read(buffer)) != -1) {
+            crc.update(buffer, 0, length);
+        }
+        return Long.toHexString(crc.getValue());
+    }
+}
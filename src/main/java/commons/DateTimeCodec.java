@@ -0,0 +1,250 @@
+package commons;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.temporal.TemporalQuery;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads and writes the dates and times used by BetterDuke with immutable java.time formatters,
+ * so it can be used from the UI thread and the reminder threads at the same time.
+ * The academic calendar only has a few hundred dates and tasks share a few dozen times,
+ * so the results for those are remembered instead of being worked out again.
+ * Text is read the way a lenient SimpleDateFormat with the same pattern reads it, with a few differences.
+ * Whitespace in front of the text and runs of whitespace inside it count as a single space, where
+ * SimpleDateFormat could read a number across the extra space into the wrong field.
+ * The word in front of a date, such as "Wed", is skipped without being checked, and a 24 hour time must have
+ * all four digits, such as "0900" rather than "900".
+ * parseTime gives only the time of day, so "2400" is midnight with no day to roll over into,
+ * while parseDateTime does roll "13/11/2019 2400" over to the next day.
+ * A mistyped two digit year such as "13/11/19" is read in the Gregorian calendar rather than the Julian one.
+ */
+public final class DateTimeCodec {
+    private static final int MAX_CACHED = 1024;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final String DAY_SEPARATOR = " ";
+    private static final DateTimeFormatter DATE_INPUT_FORMAT = lenient("dd/MM/yyyy");
+    private static final DateTimeFormatter TIME_INPUT_FORMAT = lenient("HHmm");
+    private static final DateTimeFormatter DATE_TIME_INPUT_FORMAT = lenient("dd/MM/yyyy HHmm");
+    private static final DateTimeFormatter TWELVE_HOUR_TIME_INPUT_FORMAT = lenient("hh:mm a");
+    private static final DateTimeFormatter DATE_TWELVE_HOUR_TIME_INPUT_FORMAT = lenient("dd/MM/yyyy hh:mm a");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter DAY_DATE_FORMAT = DateTimeFormatter.ofPattern("EEE dd/MM/yyyy");
+    private static final DateTimeFormatter TWELVE_HOUR_TIME_FORMAT = DateTimeFormatter.ofPattern("hh:mm a");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HHmm");
+    private static final ConcurrentHashMap<String, LocalDate> parsedDates = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, LocalDate> parsedDayDates = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, LocalTime> parsedTwelveHourTimes = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<LocalDate, String> dayDates = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Integer, String> twelveHourTimes = new ConcurrentHashMap<>();
+
+    private DateTimeCodec() {
+    }
+
+    /**
+     * This method reads a date such as "13/11/2019", which is how the academic calendar gives dates.
+     * @throws ParseException if the string is not such a date
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        LocalDate parsed = parsedDates.get(requireText(date));
+        if (parsed == null) {
+            parsed = parse(DATE_INPUT_FORMAT, date, LocalDate::from);
+            remember(parsedDates, date, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * This method reads a date such as "Wed 13/11/2019", which is how tasks are saved and shown.
+     * The day of the week is not checked against the date.
+     * @throws ParseException if the string is not such a date
+     */
+    public static LocalDate parseDayDate(String date) throws ParseException {
+        LocalDate parsed = parsedDayDates.get(requireText(date));
+        if (parsed == null) {
+            parsed = parse(DATE_INPUT_FORMAT, skipDay(date), LocalDate::from);
+            remember(parsedDayDates, date, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * This method reads a 24 hour time such as "1300", which is how times are typed in commands.
+     * @throws ParseException if the string is not such a time
+     */
+    public static LocalTime parseTime(String time) throws ParseException {
+        return parse(TIME_INPUT_FORMAT, time, LocalTime::from);
+    }
+
+    /**
+     * This method reads a 12 hour time such as "01:00 PM", which is how tasks are saved and shown.
+     * @throws ParseException if the string is not such a time
+     */
+    public static LocalTime parseTwelveHourTime(String time) throws ParseException {
+        LocalTime parsed = parsedTwelveHourTimes.get(requireText(time));
+        if (parsed == null) {
+            parsed = parse(TWELVE_HOUR_TIME_INPUT_FORMAT, time.trim(), LocalTime::from);
+            remember(parsedTwelveHourTimes, time, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * This method reads a date and 24 hour time such as "13/11/2019 1300", which is how deadlines are typed.
+     * @throws ParseException if the string is not such a date and time
+     */
+    public static LocalDateTime parseDateTime(String dateTime) throws ParseException {
+        return parse(DATE_TIME_INPUT_FORMAT, dateTime, LocalDateTime::from);
+    }
+
+    /**
+     * This method reads a date and 12 hour time such as "Wed 13/11/2019 01:00 PM",
+     * which is how deadlines and reminders are saved and shown.
+     * @throws ParseException if the string is not such a date and time
+     */
+    public static LocalDateTime parseDayDateTime(String dateTime) throws ParseException {
+        return parse(DATE_TWELVE_HOUR_TIME_INPUT_FORMAT, skipDay(dateTime), LocalDateTime::from);
+    }
+
+    /**
+     * This method writes a date such as "13/11/2019".
+     */
+    public static String formatDate(LocalDate date) {
+        return date.format(DATE_FORMAT);
+    }
+
+    /**
+     * This method writes a date such as "Wed 13/11/2019".
+     */
+    public static String formatDayDate(LocalDate date) {
+        String formatted = dayDates.get(date);
+        if (formatted == null) {
+            formatted = date.format(DAY_DATE_FORMAT);
+            remember(dayDates, date, formatted);
+        }
+        return formatted;
+    }
+
+    /**
+     * This method writes a 24 hour time such as "1300", the way times are typed in commands.
+     */
+    public static String formatTime(LocalTime time) {
+        return time.format(TIME_FORMAT);
+    }
+
+    /**
+     * This method writes a 12 hour time such as "01:00 PM". Seconds are left out.
+     */
+    public static String formatTwelveHourTime(LocalTime time) {
+        return formatTwelveHourTime(time.getHour() * MINUTES_PER_HOUR + time.getMinute());
+    }
+
+    /**
+     * This method writes the time that is the given number of minutes after midnight, such as "01:00 PM".
+     */
+    public static String formatTwelveHourTime(int minuteOfDay) {
+        return twelveHourTimes.computeIfAbsent(minuteOfDay, minute -> LocalTime.of(minute / MINUTES_PER_HOUR,
+                minute % MINUTES_PER_HOUR).format(TWELVE_HOUR_TIME_FORMAT));
+    }
+
+    /**
+     * This method writes a date and 12 hour time such as "Wed 13/11/2019 01:00 PM".
+     */
+    public static String formatDayDateTime(LocalDateTime dateTime) {
+        return formatDayDate(dateTime.toLocalDate()) + DAY_SEPARATOR + formatTwelveHourTime(dateTime.toLocalTime());
+    }
+
+    /**
+     * This method converts a local date and time into a Date for the parts of BetterDuke that still use Date.
+     */
+    public static Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * This method converts a Date into the local date and time it stands for.
+     */
+    public static LocalDateTime fromDate(Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+
+    /**
+     * Creates a formatter that reads text the way a lenient SimpleDateFormat with the same pattern does:
+     * numbers may be shorter than the pattern, letters may be in any case, and out of range fields roll over.
+     */
+    private static DateTimeFormatter lenient(String pattern) {
+        return new DateTimeFormatterBuilder().parseCaseInsensitive().parseLenient().appendPattern(pattern)
+                .toFormatter().withResolverStyle(ResolverStyle.LENIENT);
+    }
+
+    /**
+     * Reads the start of the text with the formatter, ignoring anything after it as SimpleDateFormat does.
+     */
+    private static <T> T parse(DateTimeFormatter format, String text, TemporalQuery<T> query) throws ParseException {
+        String spaced = collapseWhitespace(requireText(text));
+        ParsePosition position = new ParsePosition(0);
+        try {
+            return format.parse(spaced, position).query(query);
+        } catch (DateTimeException e) {
+            throw new ParseException(text, position.getErrorIndex() < 0 ? 0 : position.getErrorIndex());
+        }
+    }
+
+    /**
+     * Drops whitespace in front of the text and turns each run of whitespace inside it into a single space.
+     * The text is returned as it is when there is nothing to change, which is almost always.
+     */
+    private static String collapseWhitespace(String text) {
+        boolean isSpaced = text.isEmpty() || !Character.isWhitespace(text.charAt(0));
+        for (int i = 1; isSpaced && i < text.length(); i++) {
+            isSpaced = !Character.isWhitespace(text.charAt(i))
+                    || text.charAt(i) == ' ' && !Character.isWhitespace(text.charAt(i - 1));
+        }
+        if (isSpaced) {
+            return text;
+        }
+        StringBuilder spaced = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                spaced.append(text.charAt(i));
+            } else if (spaced.length() > 0 && spaced.charAt(spaced.length() - 1) != ' ') {
+                spaced.append(' ');
+            }
+        }
+        return spaced.toString();
+    }
+
+    /**
+     * Drops the day of the week in front of a date, or returns null if there is none.
+     */
+    private static String skipDay(String text) {
+        if (text == null) {
+            return null;
+        }
+        String trimmed = text.trim();
+        int separator = trimmed.indexOf(DAY_SEPARATOR);
+        return separator < 0 ? null : trimmed.substring(separator + 1).trim();
+    }
+
+    private static String requireText(String text) throws ParseException {
+        if (text == null) {
+            throw new ParseException("No date or time given", 0);
+        }
+        return text;
+    }
+
+    private static <K, V> void remember(ConcurrentHashMap<K, V> cache, K key, V value) {
+        if (cache.size() < MAX_CACHED) {
+            cache.putIfAbsent(key, value);
+        }
+    }
+}
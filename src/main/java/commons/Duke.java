@@ -3,12 +3,14 @@ package commons;
 import commands.Command;
 import commands.RetrieveFreeTimesCommand;
 import commands.RetrievePreviousCommand;
-import dukeexceptions.DukeIOException;
+import dukeexceptions.DukeInvalidCommandException;
 import dukeexceptions.DukeInvalidDateTimeException;
+import dukeexceptions.DukeInvalidFormatException;
+import dukeexceptions.DukeNoValidDataException;
 import tasks.TaskList;
 import parser.MainParser;
-import userinterface.MainWindow;
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -25,6 +27,9 @@ public class Duke  {
     private final TaskList deadlines;
     private final UserInteraction ui;
     private final Reminder reminder;
+    private final StartupReport startupReport = new StartupReport();
+    private final PerformanceMetrics metrics = PerformanceMetrics.getInstance();
+    private final CompletableFuture<Void> loaded;
     private final Logger logger = DukeLogger.getLogger(Duke.class);
     public static ArrayList<String> userInputs = new ArrayList<>();
 
@@ -32,48 +37,144 @@ public class Duke  {
      * Creates Duke object.
      */
     public Duke() {
+        this(false);
+    }
+
+    /**
+     * Creates Duke object, which can run without a display.
+     * The academic calendar, the module codes, the deadlines and the events are loaded at the same time
+     * in the background, after which the tasks are saved if loading changed them and the reminders set.
+     * The preloaded tasks are only added to a data folder that does not have them yet.
+     * @param isHeadless true if reminders should be logged rather than shown on screen
+     */
+    public Duke(boolean isHeadless) {
         ui = new UserInteraction();
         storage = new Storage();
         preloadStorage = new PreloadStorage();
         events = new TaskList();
         deadlines = new TaskList();
         reminder = new Reminder();
+        reminder.setHeadless(isHeadless);
         storage.setReminderObject(reminder);
-        MainWindow.setStorage(storage);
-        try {
-            preloadStorage.readDeadlineList(deadlines);
-            preloadStorage.readEventList(events);
+        reminder.setStorage(storage);
+        CompletableFuture<Void> calendar = startupReport.runAsync("calendar", () -> {
+            AcademicCalendar.getInstance();
+            LookupTable.getInstance();
+        });
+        CompletableFuture<Void> modCodes = startupReport.runAsync("module codes", ModCodeChecker::getInstance);
+        CompletableFuture<Void> deadlinesRead = startupReport.runAsync("deadlines", () -> {
+            storage.preloadDeadlineList(preloadStorage, deadlines);
             storage.readDeadlineList(deadlines);
+        });
+        CompletableFuture<Void> eventsRead = startupReport.runAsync("events", () -> {
+            storage.preloadEventList(preloadStorage, events);
             storage.readEventList(events);
-            storage.updateDeadlineList(deadlines);
-            storage.updateEventList(events);
-            reminder.setDeadlines(deadlines);
-            storage.setReminderOnStart();
-        } catch (DukeIOException | DukeInvalidDateTimeException e) {
-            logger.severe(ui.showLoadingError(e));
-        }
+        });
+        loaded = CompletableFuture.allOf(deadlinesRead, eventsRead).thenRun(() -> {
+            try {
+                startupReport.run("saving", () -> {
+                    if (storage.isDeadlineListChanged()) {
+                        storage.updateDeadlineList(deadlines);
+                    }
+                    if (storage.isEventListChanged()) {
+                        storage.updateEventList(events);
+                    }
+                });
+                startupReport.run("reminders", () -> {
+                    reminder.setDeadlines(deadlines);
+                    storage.setReminderOnStart();
+                });
+            } catch (Exception e) {
+                logger.severe(ui.showLoadingError(e));
+            }
+        }).exceptionally(e -> {
+            logger.log(Level.SEVERE, "Unable to load tasks: " + e.getCause().getMessage(), e.getCause());
+            return null;
+        }).runAfterBoth(CompletableFuture.allOf(calendar, modCodes).exceptionally(e -> null), this::reportStartup);
+    }
+
+    private void reportStartup() {
+        logger.info(startupReport.toString());
     }
 
     /**
-     * This method runs the Duke program.
+     * Retrieves a future completed once the tasks are loaded and the reminders set.
+     */
+    public CompletableFuture<Void> whenLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Retrieves how long each phase of startup took.
+     */
+    public StartupReport getStartupReport() {
+        return startupReport;
+    }
+
+    /**
+     * This method runs the Duke program, recording how long parsing and executing the command took.
+     * Mistakes in the user's input are only logged at info level, without a stack trace.
      * @param input The user's input to the Duke program
      * @return This returns the string to respond to user's input
      */
     private String run(String input) {
+        final long start = System.nanoTime();
+        Command c;
+        try {
+            c = MainParser.parse(input);
+        } catch (Exception e) {
+            metrics.recordParse(PerformanceMetrics.PARSE_ERROR, System.nanoTime() - start);
+            return getError(e);
+        }
+        String command = c.getClass().getSimpleName();
+        final long parsed = System.nanoTime();
+        metrics.recordParse(command, parsed - start);
         try {
-            Command c = MainParser.parse(input);
             return c.execute(events, deadlines, ui, storage);
         } catch (Exception e) {
+            return getError(e);
+        } finally {
+            metrics.recordExecute(command, System.nanoTime() - parsed);
+        }
+    }
+
+    private String getError(Exception e) {
+        if (e instanceof DukeInvalidCommandException || e instanceof DukeInvalidFormatException
+                || e instanceof DukeInvalidDateTimeException || e instanceof DukeNoValidDataException) {
+            logger.info(e.getMessage());
+        } else {
             logger.log(Level.SEVERE, e.getMessage(), e);
-            return ui.getError(e);
         }
+        return ui.getError(e);
     }
 
+    /**
+     * This method responds to the user's input once the tasks have been loaded.
+     * Reminders that went off without a display since the last input update their tasks first.
+     * @param input The user's input to the Duke program
+     * @return This returns the string to respond to user's input
+     */
     public String getResponse(String input) {
+        loaded.join();
+        reminder.runDueReminders();
         userInputs.add(input);
         return run(input);
     }
 
+    /**
+     * Retrieves the TaskList of events, which the GUI listens to for changes.
+     */
+    public TaskList getEvents() {
+        return events;
+    }
+
+    /**
+     * Retrieves the TaskList of deadlines, which the GUI listens to for changes.
+     */
+    public TaskList getDeadlines() {
+        return deadlines;
+    }
+
     public static ArrayList<String> getUserInputs() {
         return userInputs;
     }
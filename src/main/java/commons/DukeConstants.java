@@ -1,6 +1,7 @@
 package commons;
 
 import java.text.SimpleDateFormat;
+import java.time.format.DateTimeFormatter;
 
 public class DukeConstants {
     //DEADLINE
@@ -56,6 +57,16 @@ public class DukeConstants {
             + "Note: replace (fill) with either: weekly, biweekly, rmweekly, rmbiweekly\n"
             + "For example: recur/weekly CS1231 project meeting /start 1/10/2019 to 15/11/2019 /from 1500 /to 1700";
 
+    //IMPORT
+    public static final String IMPORT_HEADER = "import/file";
+    public static final String IMPORT_FORMAT = "OOPS!!! Please enter import as follows:\n"
+            + "import/file path_to_file\n"
+            + "where each line of the file is one of\n"
+            + "E,modCode,name_of_event,dd/MM/yyyy,HHmm,HHmm\n"
+            + "E,modCode,name_of_event,dd/MM/yyyy,HHmm,HHmm,weekly or biweekly,dd/MM/yyyy\n"
+            + "D,modCode,name_of_deadline,dd/MM/yyyy,HHmm";
+    public static final String IMPORT_FILE_ERROR = "Sorry, the file to import cannot be read: ";
+
     //SHOW
     public static final String SHOW_WORKLOAD_HEADER = "show/workload";
     public static final String SHOW_FILTER_HEADER = "show/filter";
@@ -65,8 +76,12 @@ public class DukeConstants {
     public static final String FIND_TIME_KEYWORD_HOURS = "hours";
     public static final Integer FIND_TIME_LOWER_BOUNDARY = 1;
     public static final Integer FIND_TIME_UPPER_BOUNDARY = 16;
+    public static final int FIND_TIME_DAY_START_MINUTE = 7 * 60;
+    public static final int FIND_TIME_DAY_END_MINUTE = 23 * 60 + 59;
+    public static final int FIND_TIME_OPTIONS = 5;
     public static final String SHOW_PREVIOUS_HEADER = "show/previous";
     public static final String SHOW_WEEK_HEADER = "show/week";
+    public static final String SHOW_STATS_HEADER = "show/stats";
     public static final String SHOW_WORKLOAD_FORMAT = "OOPS!!! Please enter show workload as follows:\n"
             + "show/workload";
     public static final String SHOW_FILTER_FORMAT = " OOPS!!! Please enter filter command as follows\n"
@@ -195,14 +210,11 @@ public class DukeConstants {
     //DATE
     //format date for event
     public static final SimpleDateFormat EVENT_DATE_INPUT_FORMAT = new SimpleDateFormat("dd/MM/yyyy");
+    public static final DateTimeFormatter LOCAL_DATE_INPUT_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
     //format time for event
-    public static final SimpleDateFormat EVENT_TIME_INPUT_FORMAT = new SimpleDateFormat("HHmm");
     public static final SimpleDateFormat DAY_DATE_FORMAT = new SimpleDateFormat("E dd/MM/yyyy");
-    public static final SimpleDateFormat TWELVE_HOUR_TIME_FORMAT = new SimpleDateFormat("hh:mm a");
-    public static final SimpleDateFormat DEADLINE_INPUT_FORMAT = new SimpleDateFormat("dd/MM/yyyy HHmm");
     public static final SimpleDateFormat DEADLINE_DATE_FORMAT = new SimpleDateFormat("E dd/MM/yyyy hh:mm a");
     public static final SimpleDateFormat DAY_FORMAT = new SimpleDateFormat("E");
-    public static final SimpleDateFormat TWENTYFOUR_HOUR_DATE_FORMAT = new SimpleDateFormat("E dd/MM/yyyy HHmm");
     public static final int LENGTH_OF_TIME_FORMAT = 4;
 
     //Storage
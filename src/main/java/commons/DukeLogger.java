@@ -3,6 +3,7 @@ package commons;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -12,15 +13,19 @@ import java.util.logging.SimpleFormatter;
  * Custom log handler solution taken from
  * https://github.com/nusCS2113-AY1920S1/addressbook-level3/blob/master/src/main/java/seedu/address/commons/core/LogsCenter.java
  * Modified to fit BetterDuke
+ * Each logger is set up once and kept, and every logger writes to the log file through one AsyncLogHandler,
+ * so logging does not wait for the disk.
  */
 public class DukeLogger {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
+    private static final int LOG_BUFFER_CAPACITY = 1024;
     private static final String LOG_FILE = System.getProperty("user.dir") + File.separator + "data"
             + File.separator + "dukeLogger.log";
     private static Level currentLogLevel = Level.INFO;
+    private static final ConcurrentHashMap<String, Logger> loggers = new ConcurrentHashMap<>();
+    private static final AsyncLogHandler asyncHandler = createAsyncHandler();
     private static final Logger logger = DukeLogger.getLogger(DukeLogger.class);
-    private static FileHandler fileHandler;
 
     /**
      * Initializes with a custom log level.
@@ -30,16 +35,10 @@ public class DukeLogger {
     }
 
     /**
-     * Creates a logger with the given name.
+     * Retrieves the logger with the given name, setting it up the first time it is asked for.
      */
     public static Logger getLogger(String name) {
-        Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addFileHandler(logger);
-
-        return Logger.getLogger(name);
+        return loggers.computeIfAbsent(name, DukeLogger::createLogger);
     }
 
     /**
@@ -52,6 +51,23 @@ public class DukeLogger {
         return getLogger(clazz.getSimpleName());
     }
 
+    /**
+     * Writes every record logged so far to the log file.
+     */
+    public static void flush() {
+        asyncHandler.flush();
+    }
+
+    private static Logger createLogger(String name) {
+        Logger logger = Logger.getLogger(name);
+        logger.setUseParentHandlers(false);
+
+        removeHandlers(logger);
+        logger.addHandler(asyncHandler);
+
+        return logger;
+    }
+
     /**
      * Remove all the handlers from {@code logger}.
      */
@@ -61,18 +77,20 @@ public class DukeLogger {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Creates the {@code AsyncLogHandler} that every logger writes through, which opens the log file
+     * on its own thread once the first record is written.
      */
-    private static void addFileHandler(Logger logger) {
-        try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
+    private static AsyncLogHandler createAsyncHandler() {
+        AsyncLogHandler asyncHandler = new AsyncLogHandler(LOG_BUFFER_CAPACITY, () -> {
+            try {
+                return createFileHandler();
+            } catch (IOException e) {
+                System.err.println("Error adding file handler for logger.");
+                return null;
             }
-            logger.addHandler(fileHandler);
-        } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
-        }
+        });
+        asyncHandler.setLevel(Level.SEVERE);
+        return asyncHandler;
     }
 
     /**
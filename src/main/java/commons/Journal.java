@@ -0,0 +1,133 @@
+package commons;
+
+import tasks.Assignment;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only log of task mutations kept next to a snapshot file such as event.txt.
+ * Each record is one line made up of the operation followed by the storage string of the task.
+ */
+public class Journal {
+    private static final String RECORD_SEPARATOR = " ";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private final Path filePath;
+    private long compactedBytes;
+    private int recordCount;
+
+    /**
+     * Creates a Journal object.
+     * @param filePath The path of the journal file
+     */
+    public Journal(String filePath) {
+        this.filePath = Paths.get(filePath);
+        File journalFile = this.filePath.toFile();
+        this.recordCount = 0;
+        this.compactedBytes = 0;
+        if (journalFile.exists()) {
+            try {
+                recordCount = Files.readAllLines(this.filePath, StandardCharsets.UTF_8).size();
+            } catch (IOException e) {
+                recordCount = 0;
+            }
+        }
+    }
+
+    /**
+     * Appends several records to the end of the journal with a single write to disk.
+     * @param records The records to append, each made with toRecord
+     * @throws IOException when the journal cannot be written
+     */
+    public synchronized void appendAll(List<String> records) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (String record : records) {
+            content.append(record).append(System.lineSeparator());
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8)));
+            channel.force(false);
+        }
+        recordCount += records.size();
+    }
+
+    /**
+     * Makes the record for a task as it is now, so that it can be appended later from another thread.
+     * @param operation The mutation applied to the task
+     * @param task The task after the mutation
+     * @return The record holding the operation and the storage string of the task
+     */
+    public static String toRecord(JournalOperation operation, Assignment task) {
+        return operation.name() + RECORD_SEPARATOR + task.toString();
+    }
+
+    /**
+     * Reads every record currently in the journal, oldest first.
+     * @return The list of records, each holding the operation and the storage string of the task
+     * @throws IOException when the journal cannot be read
+     */
+    public synchronized List<String[]> readRecords() throws IOException {
+        List<String[]> records = new ArrayList<>();
+        if (!filePath.toFile().exists()) {
+            return records;
+        }
+        for (String line : Files.readAllLines(filePath, StandardCharsets.UTF_8)) {
+            int separator = line.indexOf(RECORD_SEPARATOR);
+            if (separator > 0) {
+                records.add(new String[]{line.substring(0, separator), line.substring(separator + 1)});
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Retrieves the logical position of the end of the journal.
+     * The position keeps growing across compactions so it can be used to mark what a snapshot covers.
+     */
+    public synchronized long getPosition() {
+        return compactedBytes + filePath.toFile().length();
+    }
+
+    /**
+     * Retrieves the number of records that have not been compacted into the snapshot yet.
+     */
+    public synchronized int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Drops every record before the given logical position, keeping the ones appended after it.
+     * @param position The logical position covered by the latest snapshot
+     * @throws IOException when the journal cannot be rewritten
+     */
+    public synchronized void discardUpTo(long position) throws IOException {
+        long physicalPosition = position - compactedBytes;
+        if (physicalPosition <= 0) {
+            return;
+        }
+        byte[] content = filePath.toFile().exists() ? Files.readAllBytes(filePath) : new byte[0];
+        int start = (int) Math.min(physicalPosition, content.length);
+        byte[] remaining = new byte[content.length - start];
+        System.arraycopy(content, start, remaining, 0, remaining.length);
+        Path temporaryPath = Paths.get(filePath.toString() + TEMPORARY_FILE_SUFFIX);
+        Files.write(temporaryPath, remaining);
+        Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        compactedBytes += start;
+        recordCount = 0;
+        for (byte b : remaining) {
+            if (b == '\n') {
+                recordCount++;
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package commons;
+
+/**
+ * Represents the kinds of task mutation that can be recorded in a journal.
+ */
+public enum JournalOperation {
+    ADD,
+    REMOVE,
+    DONE,
+    REMIND
+}
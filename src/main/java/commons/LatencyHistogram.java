@@ -0,0 +1,96 @@
+package commons;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts how long something took in a fixed number of buckets, in the manner of an HDR histogram.
+ * Each power of two is split into 32 equal buckets, so a percentile read from it is within about 3% of the
+ * true value while the histogram never grows, however many times are recorded.
+ * Times can be recorded from any thread.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 40;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2);
+    private static final long MAX_VALUE = (1L << (MAX_MAGNITUDE + 1)) - 1;
+    private static final double PERCENT = 100.0;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * This method records one time.
+     * @param nanos The time taken in nanoseconds, which is counted as about 36 minutes if it is longer
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        counts.incrementAndGet(indexOf(value));
+        count.incrementAndGet();
+        total.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Retrieves how many times have been recorded.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Retrieves the mean of the times recorded, in nanoseconds.
+     */
+    public double getMean() {
+        long recorded = count.get();
+        return recorded == 0 ? 0 : (double) total.get() / recorded;
+    }
+
+    /**
+     * Retrieves the longest time recorded, in nanoseconds.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Retrieves the time that the given percentage of the times recorded were no longer than.
+     * @param percentile The percentage, such as 99 for the 99th percentile
+     * @return The time in nanoseconds, or 0 if no time has been recorded
+     */
+    public long getPercentile(double percentile) {
+        long recorded = count.get();
+        if (recorded == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(recorded * percentile / PERCENT));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        return SUB_BUCKET_COUNT * (shift + 1) + (int) (value >> shift) - SUB_BUCKET_COUNT;
+    }
+
+    private static long highestValueIn(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -1,55 +1,40 @@
 package commons;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.logging.Logger;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 
 /**
- * Lookup table that provides date given week and day.
+ * Lookup table that provides date given week and day, answered from the AcademicCalendar.
  */
 public class LookupTable {
-    private static Map<String, String> map = new HashMap<>();
-    private final Logger logger = DukeLogger.getLogger(LookupTable.class);
-    private static LookupTable lookupTable;
-    private static final int LENGTH_OF_LINE = 2;
+    private static volatile LookupTable lookupTable;
+    private final AcademicCalendar academicCalendar = AcademicCalendar.getInstance();
 
-    /**
-     * Creates a lookup table object and read from Lookup.txt file.
-     * @throws IOException when the Lookup.txt is not found
-     */
     private LookupTable() {
-        try {
-            String line;
-            InputStream is = this.getClass().getClassLoader().getResourceAsStream("documents/Lookup.txt");
-            InputStreamReader isr = new InputStreamReader(is);
-            BufferedReader reader = new BufferedReader(isr);
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.split(":", 2);
-                if (parts.length >= LENGTH_OF_LINE) {
-                    String key = parts[0].trim();
-                    String value = parts[1].trim();
-                    this.map.put(key.trim().toLowerCase(), value);
-                }
-            }
-            reader.close();
-            isr.close();
-            is.close();
-        } catch (IOException e) {
-            logger.severe("Lookup.txt not found");
-        }
     }
 
     /**
      * Translate week,day to date.
+     * Also translates a date to its week, such as "12/08/2019" to "Week 1",
+     * and a week to its dates, such as "week 1" to "12/08/2019 to 18/08/2019".
      * @param weekAndDay week and day of activity in academic calender
-     * @return date of activity
+     * @return date of activity, or null if it is not in the academic calendar
      */
     public String getValue(String weekAndDay) {
-        return map.get(weekAndDay.toLowerCase().trim());
+        String key = weekAndDay.trim();
+        LocalDate date = AcademicCalendar.toDate(key);
+        if (date != null) {
+            AcademicWeek week = academicCalendar.getWeek(date);
+            return week == null ? null : week.getLabel();
+        }
+        int daySeparator = key.lastIndexOf(DukeConstants.BLANK_SPACE);
+        DayOfWeek day = daySeparator < 0 ? null : AcademicCalendar.toDay(key.substring(daySeparator + 1));
+        if (day != null) {
+            AcademicWeek week = academicCalendar.findWeek(key.substring(0, daySeparator));
+            return week == null ? null : DateTimeCodec.formatDate(week.getDate(day));
+        }
+        AcademicWeek week = academicCalendar.findWeek(key);
+        return week == null ? null : week.getRange();
     }
 
     /**
@@ -4,45 +4,95 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.TreeSet;
 import java.util.logging.Logger;
 
+/**
+ * Checks mod codes against the ones listed in ModCode.txt.
+ * The codes are kept in a trie built once into arrays: the children of each node sit next to each other
+ * in order of their letter, and each node covers the run of sorted codes that start with its prefix.
+ * Checking a code walks the trie without allocating, and the codes starting with a prefix are a slice of that run.
+ */
 public class ModCodeChecker {
-    private static HashMap<Character, HashMap<Character, TreeSet<String>>> mods = new HashMap<>();
+    private static final int ROOT = 0;
     private final Logger logger = DukeLogger.getLogger(ModCodeChecker.class);
-    private static ModCodeChecker modCodeChecker;
+    private static volatile ModCodeChecker modCodeChecker;
+    private String[] codes = new String[0];
+    private char[] letters = new char[1];
+    private int[] firstChild = new int[1];
+    private int[] childCount = new int[1];
+    private int[] firstCode = new int[1];
+    private int[] lastCode = new int[1];
+    private boolean[] isCode = new boolean[1];
 
     /**
      * Creates a modcode checker object and read from ModCode.txt file.
-     * @throws IOException when the ModCode.txt is not found
      */
     private ModCodeChecker() {
-        try {
+        InputStream is = this.getClass().getClassLoader().getResourceAsStream("documents/ModCode.txt");
+        if (is == null) {
+            logger.severe("ModCode.txt not found");
+            return;
+        }
+        TreeSet<String> modCodes = new TreeSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
             String line;
-            InputStream is = this.getClass().getClassLoader().getResourceAsStream("documents/ModCode.txt");
-            InputStreamReader isr = new InputStreamReader(is);
-            BufferedReader reader = new BufferedReader(isr);
             while ((line = reader.readLine()) != null) {
-                char firstChar = Character.toLowerCase(line.charAt(0));
-                char secondChar = Character.toLowerCase(line.charAt(1));
-                if (!this.mods.containsKey(firstChar)) {
-                    this.mods.put(firstChar, new HashMap<>());
-                    this.mods.get(firstChar).put(secondChar, new TreeSet<>());
-                    this.mods.get(firstChar).get(secondChar).add(line.toLowerCase());
-                } else if (!this.mods.get(firstChar).containsKey(secondChar)) {
-                    this.mods.get(firstChar).put(secondChar, new TreeSet<>());
-                    this.mods.get(firstChar).get(secondChar).add(line.toLowerCase());
-                } else {
-                    this.mods.get(firstChar).get(secondChar).add(line.toLowerCase());
+                String modCode = line.trim().toUpperCase();
+                if (!modCode.isEmpty() && modCode.indexOf(' ') < 0) {
+                    modCodes.add(modCode);
                 }
             }
-            reader.close();
-            isr.close();
-            is.close();
         } catch (IOException e) {
             logger.severe("ModCode.txt not found");
         }
+        build(modCodes.toArray(new String[0]));
+    }
+
+    /**
+     * Builds the trie over the sorted codes, level by level so that the children of each node are next to each other.
+     */
+    private void build(String[] sortedCodes) {
+        codes = sortedCodes;
+        int maxNodes = 1;
+        for (String code : codes) {
+            maxNodes += code.length();
+        }
+        letters = new char[maxNodes];
+        firstChild = new int[maxNodes];
+        childCount = new int[maxNodes];
+        firstCode = new int[maxNodes];
+        lastCode = new int[maxNodes];
+        isCode = new boolean[maxNodes];
+        lastCode[ROOT] = codes.length;
+        int nodes = 1;
+        for (int node = 0, depth = 0, levelEnd = 1; node < nodes; node++) {
+            if (node == levelEnd) {
+                depth++;
+                levelEnd = nodes;
+            }
+            int code = firstCode[node];
+            if (code < lastCode[node] && codes[code].length() == depth) {
+                isCode[node] = true;
+                code++;
+            }
+            firstChild[node] = nodes;
+            while (code < lastCode[node]) {
+                char letter = codes[code].charAt(depth);
+                letters[nodes] = letter;
+                firstCode[nodes] = code;
+                while (code < lastCode[node] && codes[code].charAt(depth) == letter) {
+                    code++;
+                }
+                lastCode[nodes] = code;
+                nodes++;
+            }
+            childCount[node] = nodes - firstChild[node];
+        }
     }
 
     /**
@@ -51,18 +101,76 @@ public class ModCodeChecker {
      * @return true if modCode exist
      */
     public boolean isModCode(String modCode) {
-        modCode = modCode.trim();
-        char firstChar = Character.toLowerCase(modCode.charAt(0));
-        char secondChar = Character.toLowerCase(modCode.charAt(1));
-        if (!mods.containsKey(firstChar)) {
-            return false;
-        } else if (!mods.get(firstChar).containsKey(secondChar)) {
-            return false;
-        } else if (!mods.get(firstChar).get(secondChar).contains(modCode.toLowerCase())) {
-            return false;
-        } else {
-            return true;
+        int start = 0;
+        int end = modCode.length();
+        while (start < end && Character.isWhitespace(modCode.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(modCode.charAt(end - 1))) {
+            end--;
+        }
+        int node = find(modCode, start, end);
+        return node >= 0 && isCode[node];
+    }
+
+    /**
+     * This method finds the mod codes starting with the prefix, ignoring case, in alphabetical order.
+     * @param prefix The start of the mod code
+     * @param limit The most mod codes to find
+     * @return The mod codes found
+     */
+    public List<String> getModCodesStartingWith(String prefix, int limit) {
+        int node = find(prefix, 0, prefix.length());
+        if (node < 0) {
+            return new ArrayList<>();
+        }
+        int end = Math.min(lastCode[node], firstCode[node] + limit);
+        return new ArrayList<>(Arrays.asList(codes).subList(firstCode[node], end));
+    }
+
+    /**
+     * This method completes the prefix as far as every mod code starting with it agrees.
+     * @param prefix The start of the mod code
+     * @return The completed prefix in capital letters, or null if no mod code starts with it
+     */
+    public String completeModCode(String prefix) {
+        int node = find(prefix, 0, prefix.length());
+        if (node < 0) {
+            return null;
+        }
+        int depth = prefix.length();
+        while (!isCode[node] && childCount[node] == 1) {
+            node = firstChild[node];
+            depth++;
+        }
+        return codes[firstCode[node]].substring(0, depth);
+    }
+
+    /**
+     * Finds the node for the characters of the text between start and end, or -1 if no code starts with them.
+     */
+    private int find(String text, int start, int end) {
+        int node = ROOT;
+        for (int i = start; i < end && node >= 0; i++) {
+            node = findChild(node, Character.toUpperCase(text.charAt(i)));
+        }
+        return node;
+    }
+
+    private int findChild(int node, char letter) {
+        int low = firstChild[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (letters[middle] < letter) {
+                low = middle + 1;
+            } else if (letters[middle] > letter) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
         }
+        return -1;
     }
 
     /**
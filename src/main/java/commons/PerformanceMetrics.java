@@ -0,0 +1,159 @@
+package commons;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps how long each kind of command took to be parsed and executed, how long saving to disk and redrawing
+ * the window took, and how much was read from and written to disk since BetterDuke started.
+ * Commands are told apart by the class of command they were parsed into, so the histograms kept are bounded.
+ */
+public class PerformanceMetrics {
+    public static final String PARSE_ERROR = "ParseError";
+    private static volatile PerformanceMetrics performanceMetrics;
+    private final ConcurrentHashMap<String, LatencyHistogram> parseLatencies = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LatencyHistogram> executeLatencies = new ConcurrentHashMap<>();
+    private final LatencyHistogram writeLatency = new LatencyHistogram();
+    private final LatencyHistogram refreshLatency = new LatencyHistogram();
+    private final AtomicLong journalWrites = new AtomicLong();
+    private final AtomicLong journalRecords = new AtomicLong();
+    private final AtomicLong journalBytes = new AtomicLong();
+    private final AtomicLong snapshotWrites = new AtomicLong();
+    private final AtomicLong snapshotBytes = new AtomicLong();
+    private final AtomicLong snapshotReads = new AtomicLong();
+    private final AtomicLong bytesRead = new AtomicLong();
+
+    private PerformanceMetrics() {
+    }
+
+    /**
+     * Creates a single instance of PerformanceMetrics object.
+     */
+    public static PerformanceMetrics getInstance() {
+        if (performanceMetrics == null) {
+            synchronized (PerformanceMetrics.class) {
+                if (performanceMetrics == null) {
+                    performanceMetrics = new PerformanceMetrics();
+                }
+            }
+        }
+        return performanceMetrics;
+    }
+
+    /**
+     * This method records how long parsing the user's input took.
+     * @param command The class of command the input was parsed into, or PARSE_ERROR if it could not be parsed
+     * @param nanos The time taken in nanoseconds
+     */
+    public void recordParse(String command, long nanos) {
+        parseLatencies.computeIfAbsent(command, key -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * This method records how long executing a command took.
+     * @param command The class of command
+     * @param nanos The time taken in nanoseconds
+     */
+    public void recordExecute(String command, long nanos) {
+        executeLatencies.computeIfAbsent(command, key -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * This method records how long the window took to show the response to a command,
+     * including the updates to the week view and deadline table made while the command ran.
+     * As those updates are made while the command executes, they are also in its execute time.
+     * @param nanos The time taken in nanoseconds
+     */
+    public void recordRefresh(long nanos) {
+        refreshLatency.record(nanos);
+    }
+
+    /**
+     * This method records how long writing a batch of changes to disk took.
+     * @param nanos The time taken in nanoseconds
+     */
+    public void recordWrite(long nanos) {
+        writeLatency.record(nanos);
+    }
+
+    /**
+     * This method records records being appended to a journal.
+     * @param recordCount The number of records appended together
+     * @param bytes The number of bytes written
+     */
+    public void recordJournalWrite(int recordCount, long bytes) {
+        journalWrites.incrementAndGet();
+        journalRecords.addAndGet(recordCount);
+        journalBytes.addAndGet(bytes);
+    }
+
+    /**
+     * This method records a snapshot being written.
+     * @param bytes The size of the snapshot
+     */
+    public void recordSnapshotWrite(long bytes) {
+        snapshotWrites.incrementAndGet();
+        snapshotBytes.addAndGet(bytes);
+    }
+
+    /**
+     * This method records a snapshot being read.
+     * @param bytes The size of the snapshot
+     */
+    public void recordSnapshotRead(long bytes) {
+        snapshotReads.incrementAndGet();
+        bytesRead.addAndGet(bytes);
+    }
+
+    /**
+     * Retrieves how long parsing took for each kind of command, in order of name.
+     */
+    public Map<String, LatencyHistogram> getParseLatencies() {
+        return new TreeMap<>(parseLatencies);
+    }
+
+    /**
+     * Retrieves how long executing took for each kind of command, in order of name.
+     */
+    public Map<String, LatencyHistogram> getExecuteLatencies() {
+        return new TreeMap<>(executeLatencies);
+    }
+
+    public LatencyHistogram getWriteLatency() {
+        return writeLatency;
+    }
+
+    public LatencyHistogram getRefreshLatency() {
+        return refreshLatency;
+    }
+
+    public long getJournalWrites() {
+        return journalWrites.get();
+    }
+
+    public long getJournalRecords() {
+        return journalRecords.get();
+    }
+
+    public long getJournalBytes() {
+        return journalBytes.get();
+    }
+
+    public long getSnapshotWrites() {
+        return snapshotWrites.get();
+    }
+
+    public long getSnapshotBytes() {
+        return snapshotBytes.get();
+    }
+
+    public long getSnapshotReads() {
+        return snapshotReads.get();
+    }
+
+    public long getBytesRead() {
+        return bytesRead.get();
+    }
+}
@@ -0,0 +1,215 @@
+package commons;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Writes journal records and snapshots to disk on a writer thread of its own, so that saving never holds up
+ * the command that made the change.
+ * Writes are queued in the order they are asked for and the writer waits a moment before starting, so that
+ * a burst of changes, such as a recurring event adding every occurrence or several reminders going off
+ * together, is written once. Records for the same journal are appended together, and a snapshot replaces
+ * any earlier snapshot of the same file and any records still queued for the journals it covers.
+ * Snapshots are written to a temporary file first and then renamed over the old one.
+ * Anything still queued when BetterDuke exits is written before it closes.
+ */
+public class PersistenceService {
+    private static final long BATCH_DELAY_MILLIS = 200;
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private final ScheduledThreadPoolExecutor writer;
+    private final Logger logger = DukeLogger.getLogger(PersistenceService.class);
+    private final PerformanceMetrics metrics = PerformanceMetrics.getInstance();
+    private List<PendingWrite> pendingWrites = new ArrayList<>();
+    private Future<?> scheduledWrite;
+    private boolean isFlushedOnExit;
+
+    /**
+     * Creates a PersistenceService object. The writer thread is only started once the first write is queued.
+     */
+    public PersistenceService() {
+        writer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "persistence-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a record to be appended to the journal, together with any other records queued for it shortly after.
+     * @param journal The journal to append to
+     * @param record The record to append, made with Journal.toRecord
+     */
+    public synchronized void record(Journal journal, String record) {
+        for (int i = pendingWrites.size() - 1; i >= 0; i--) {
+            PendingWrite pendingWrite = pendingWrites.get(i);
+            if (pendingWrite.covers(journal)) {
+                break;
+            }
+            if (pendingWrite.isAppendTo(journal)) {
+                pendingWrite.records.add(record);
+                return;
+            }
+        }
+        PendingWrite append = new PendingWrite(journal, null, null, null, null, new Journal[0]);
+        append.records.add(record);
+        queue(append);
+    }
+
+    /**
+     * Queues a snapshot to be written in place of the file given. Once it is written, every record appended
+     * to the journals it covers before it was queued is discarded, as is the file in the other format.
+     * @param snapshotPath The path of the snapshot file
+     * @param content What the snapshot file should hold
+     * @param otherPath The path of the same snapshot in the other format, which is deleted
+     * @param onWritten What to do on the writer thread once this snapshot is on disk, which is not done
+     *     if it is replaced by a later one
+     * @param journals The journals whose records the snapshot already holds
+     * @return A future completed once the snapshot is on disk, or replaced by a later one that is
+     */
+    public synchronized CompletableFuture<Void> saveSnapshot(String snapshotPath, byte[] content, String otherPath,
+                                                             Runnable onWritten, Journal... journals) {
+        PendingWrite snapshot = new PendingWrite(null, Paths.get(snapshotPath), content, Paths.get(otherPath),
+                onWritten, journals);
+        Iterator<PendingWrite> queued = pendingWrites.iterator();
+        while (queued.hasNext()) {
+            PendingWrite pendingWrite = queued.next();
+            boolean isReplaced = snapshot.snapshotPath.equals(pendingWrite.snapshotPath);
+            for (Journal journal : journals) {
+                isReplaced |= pendingWrite.isAppendTo(journal);
+            }
+            if (isReplaced) {
+                queued.remove();
+                snapshot.written.thenRun(() -> pendingWrite.written.complete(null));
+            }
+        }
+        queue(snapshot);
+        return snapshot.written;
+    }
+
+    /**
+     * Writes everything queued now and waits for it to be on disk.
+     */
+    public void flush() {
+        Future<?> write;
+        synchronized (this) {
+            if (scheduledWrite == null) {
+                return;
+            }
+            scheduledWrite.cancel(false);
+            write = writer.submit(this::writePending);
+        }
+        try {
+            write.get();
+        } catch (InterruptedException | ExecutionException e) {
+            logger.severe("Interrupted while saving tasks");
+        }
+    }
+
+    private void queue(PendingWrite pendingWrite) {
+        pendingWrites.add(pendingWrite);
+        if (!isFlushedOnExit) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::flush));
+            isFlushedOnExit = true;
+        }
+        if (scheduledWrite == null) {
+            scheduledWrite = writer.schedule(this::writePending, BATCH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void writePending() {
+        List<PendingWrite> writes;
+        synchronized (this) {
+            writes = pendingWrites;
+            pendingWrites = new ArrayList<>();
+            scheduledWrite = null;
+        }
+        if (writes.isEmpty()) {
+            return;
+        }
+        final long start = System.nanoTime();
+        for (PendingWrite pendingWrite : writes) {
+            try {
+                if (pendingWrite.journal != null) {
+                    long position = pendingWrite.journal.getPosition();
+                    pendingWrite.journal.appendAll(pendingWrite.records);
+                    metrics.recordJournalWrite(pendingWrite.records.size(),
+                            pendingWrite.journal.getPosition() - position);
+                } else {
+                    writeSnapshot(pendingWrite);
+                    metrics.recordSnapshotWrite(pendingWrite.content.length);
+                }
+            } catch (IOException e) {
+                logger.severe("Unable to save " + pendingWrite);
+            }
+            pendingWrite.written.complete(null);
+        }
+        metrics.recordWrite(System.nanoTime() - start);
+    }
+
+    private void writeSnapshot(PendingWrite snapshot) throws IOException {
+        long[] positions = new long[snapshot.journals.length];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = snapshot.journals[i].getPosition();
+        }
+        Path temporaryPath = Paths.get(snapshot.snapshotPath.toString() + TEMPORARY_FILE_SUFFIX);
+        Files.write(temporaryPath, snapshot.content);
+        Files.move(temporaryPath, snapshot.snapshotPath, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(snapshot.otherPath);
+        for (int i = 0; i < positions.length; i++) {
+            snapshot.journals[i].discardUpTo(positions[i]);
+        }
+        snapshot.onWritten.run();
+    }
+
+    /**
+     * Represents either records to append to one journal or a snapshot to write.
+     */
+    private static class PendingWrite {
+        private final Journal journal;
+        private final List<String> records = new ArrayList<>();
+        private final Path snapshotPath;
+        private final byte[] content;
+        private final Path otherPath;
+        private final Runnable onWritten;
+        private final Journal[] journals;
+        private final CompletableFuture<Void> written = new CompletableFuture<>();
+
+        private PendingWrite(Journal journal, Path snapshotPath, byte[] content, Path otherPath, Runnable onWritten,
+                             Journal[] journals) {
+            this.journal = journal;
+            this.snapshotPath = snapshotPath;
+            this.content = content;
+            this.otherPath = otherPath;
+            this.onWritten = onWritten;
+            this.journals = journals;
+        }
+
+        private boolean isAppendTo(Journal journal) {
+            return this.journal == journal;
+        }
+
+        private boolean covers(Journal journal) {
+            return Arrays.asList(journals).contains(journal);
+        }
+
+        @Override
+        public String toString() {
+            return journal != null ? records.size() + " journal records" : "snapshot " + snapshotPath;
+        }
+    }
+}
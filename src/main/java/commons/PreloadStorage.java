@@ -1,6 +1,7 @@
 package commons;
 
 import dukeexceptions.DukeIOException;
+import tasks.Assignment;
 import tasks.TaskList;
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -11,26 +12,56 @@ import java.util.logging.Logger;
 
 /**
  * Deals with pre-loading the jar file with tasks.
+ * Only the files bundled in the jar are read, so none of the data folder is opened.
  */
-public class PreloadStorage extends Storage {
+public class PreloadStorage {
 
+    private static final String PRELOAD_EVENT_FILE = "documents/preloadevent.txt";
+    private static final String PRELOAD_DEADLINE_FILE = "documents/preloaddeadline.txt";
     private final Logger logger = DukeLogger.getLogger(PreloadStorage.class);
+    private final TaskRecordScanner recordScanner = new TaskRecordScanner();
+
+    /**
+     * Retrieves the version of the preloaded events, which changes whenever preloadevent.txt does.
+     * @throws DukeIOException when preloadevent.txt is not found
+     */
+    public String getEventVersion() throws DukeIOException {
+        return getVersion(PRELOAD_EVENT_FILE, DukeConstants.NO_PRELOAD_EVENT_TXT);
+    }
+
+    /**
+     * Retrieves the version of the preloaded deadlines, which changes whenever preloaddeadline.txt does.
+     * @throws DukeIOException when preloaddeadline.txt is not found
+     */
+    public String getDeadlineVersion() throws DukeIOException {
+        return getVersion(PRELOAD_DEADLINE_FILE, DukeConstants.NO_PRELOAD_DEADLINE_TXT);
+    }
+
+    private String getVersion(String fileName, String errorMessage) throws DukeIOException {
+        try (InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream(fileName)) {
+            if (inputStream == null) {
+                throw new IOException(fileName + " not found");
+            }
+            return DataManifest.checksum(inputStream);
+        } catch (IOException e) {
+            logger.severe("Unable to read " + fileName);
+            throw new DukeIOException(errorMessage);
+        }
+    }
 
     /**
      * Reads and populates the TaskList of events from preloadevent.txt.
      * @param list TaskList of events
      * @throws DukeIOException when preloadevent.txt is not found
      */
-    @Override
     public void readEventList(TaskList list) throws DukeIOException {
         try {
-            InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream("documents/"
-                    + "preloadevent.txt");
+            InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream(PRELOAD_EVENT_FILE);
             InputStreamReader inputStreamReader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
             BufferedReader bufferedReader = new BufferedReader(inputStreamReader);
             String line;
             while ((line = bufferedReader.readLine()) != null) {
-                list.addTask(super.stringToTask(line));
+                addTask(list, line);
             }
         } catch (IOException e) {
             logger.severe("There is no event.txt to read from.");
@@ -43,16 +74,14 @@ public class PreloadStorage extends Storage {
      * @param list TaskList of deadlines
      * @throws DukeIOException when preloaddeadline.txt is not found
      */
-    @Override
     public void readDeadlineList(TaskList list) throws DukeIOException {
         try {
-            InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream("documents/"
-                    + "preloaddeadline.txt");
+            InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream(PRELOAD_DEADLINE_FILE);
             InputStreamReader inputStreamReader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
             BufferedReader bufferedReader = new BufferedReader(inputStreamReader);
             String line;
             while ((line = bufferedReader.readLine()) != null) {
-                list.addTask(super.stringToTask(line));
+                addTask(list, line);
             }
             bufferedReader.close();
             inputStreamReader.close();
@@ -62,4 +91,13 @@ public class PreloadStorage extends Storage {
             throw new DukeIOException(DukeConstants.NO_PRELOAD_DEADLINE_TXT);
         }
     }
+
+    private void addTask(TaskList list, String line) {
+        Assignment task = recordScanner.parse(line);
+        if (task == null) {
+            logger.severe("Unable to parse data from preloadevent.txt or preloaddeadline.txt");
+            return;
+        }
+        list.addTask(task);
+    }
 }
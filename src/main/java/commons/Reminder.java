@@ -18,45 +18,83 @@ import javafx.stage.StageStyle;
 import javafx.util.Duration;
 import org.controlsfx.control.Notifications;
 import java.util.Date;
-import java.util.Timer;
 import java.util.HashMap;
-import java.util.TimerTask;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
 
 /**
- * This class sets or removes a reminder thread.
+ * This class sets or removes reminders. Every reminder is waited for on the same scheduler thread,
+ * which only hands the notification over to the JavaFX thread when it is due.
+ * When BetterDuke runs without a display, reminders going off are logged instead of shown, and are kept until
+ * the thread running the commands calls runDueReminders, so the tasks are only ever changed by that thread.
  */
 public class Reminder {
 
-    private Timer timer;
-    private HashMap<Date, Timer> timerMap;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final ConcurrentSkipListMap<Date, ScheduledFuture<?>> scheduledReminders;
+    private final ConcurrentLinkedQueue<Runnable> dueReminders = new ConcurrentLinkedQueue<>();
+    private final AtomicLong firedCount = new AtomicLong();
+    private final AtomicLong cancelledCount = new AtomicLong();
+    private final Logger logger = DukeLogger.getLogger(Reminder.class);
     private HashMap<Date, Assignment> remindMap;
     private Storage storage;
     private Image img;
     private TaskList deadlines;
+    private boolean isHeadless;
 
     /**
-     * Creates reminder object.
+     * Creates reminder object. The scheduler thread is only started once the first reminder is set.
      */
     public Reminder() {
-        timerMap = new HashMap<>();
-        storage = new Storage();
-        remindMap = storage.getReminderMap();
+        scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "reminder-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduledReminders = new ConcurrentSkipListMap<>();
     }
 
     /**
-     * Removes thread and sets the reminder to false for update.
+     * Cancels the reminder and sets the reminder to false for update.
      * @param task Task with reminder set
      * @param date Date of reminder
      * @param reminderTime String version of the date of reminder
      */
     public void removeTimerTask(Assignment task, Date date, String reminderTime) {
-        timerMap.get(date).cancel();
-        timerMap.remove(date);
-        deadlines.setReminder(task, reminderTime, false);
-        storage.updateDeadlineList(deadlines);
+        ScheduledFuture<?> scheduledReminder = scheduledReminders.remove(date);
+        if (scheduledReminder != null && scheduledReminder.cancel(false)) {
+            cancelledCount.incrementAndGet();
+        }
+        Assignment storedTask = deadlines.setReminder(task, reminderTime, false);
+        if (storedTask != null) {
+            storage.journalReminder(storedTask);
+        }
         remindMap.remove(date);
     }
 
+    /**
+     * Sets the storage object that reminder changes are saved to, which is the same as the one in Duke,
+     * and keeps track of reminders in the map that storage fills from deadline.txt.
+     */
+    public void setStorage(Storage storage) {
+        this.storage = storage;
+        this.remindMap = storage.getReminderMap();
+    }
+
+    /**
+     * Sets whether reminders are shown on screen or, without a display, only logged.
+     */
+    public void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
     /**
      * Set the TaskList object of deadlines from Duke and RemindCommand.
      */
@@ -71,65 +109,127 @@ public class Reminder {
         return this.remindMap;
     }
 
+    /**
+     * This method retrieves how many reminders are waiting to go off, how many have gone off or been cancelled,
+     * and when the next one is due.
+     */
+    public ReminderMetrics getMetrics() {
+        Map.Entry<Date, ScheduledFuture<?>> nextReminder = scheduledReminders.firstEntry();
+        return new ReminderMetrics(scheduledReminders.size(), firedCount.get(), cancelledCount.get(),
+                nextReminder == null ? null : nextReminder.getKey());
+    }
+
     /**
      * Displays on application launch if reminders were set before application was closed previously.
+     * The alert is shown on the JavaFX application thread, as the reminders are set while loading in the background.
      */
     public void reminderOnStartAlert() {
+        if (isHeadless) {
+            logger.info("Previous reminders have been automatically set");
+            return;
+        }
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(this::reminderOnStartAlert);
+            return;
+        }
         AlertBox.display("Reminder!!!", "",
                 "Your previous reminders have been automatically set. To see more, please type remind/check",
                 Alert.AlertType.INFORMATION);
     }
 
     /**
-     * Creates a new thread when a reminder is set.
-     * @param date The time set for the thread to run
+     * Schedules a reminder to pop up at the given time.
+     * @param date The time set for the reminder to pop up
      * @param task The task where the reminder would be set
      * @throws DukeException On invalid date parameter
      */
     public void setReminderThread(Date date, Assignment task) throws DukeInvalidDateTimeException {
-        if (timerMap.containsKey(date)) {
+        requireNotScheduled(date);
+        String reminderTime = DateTimeCodec.formatDayDateTime(DateTimeCodec.fromDate(date));
+        final Assignment storedTask = deadlines.setReminder(task, reminderTime, true);
+        schedule(date, task, reminderTime);
+        if (storedTask != null) {
+            storage.journalReminder(storedTask);
+        }
+    }
+
+    /**
+     * Schedules a reminder read back from deadline.txt to pop up at its time again.
+     * The task already has the reminder, so it is neither changed nor saved again.
+     * @param date The time set for the reminder to pop up
+     * @param task The task in the TaskList that has the reminder
+     * @throws DukeInvalidDateTimeException if a reminder is already set for the time
+     */
+    public void armReminder(Date date, Assignment task) throws DukeInvalidDateTimeException {
+        requireNotScheduled(date);
+        schedule(date, task, task.getRemindTime());
+    }
+
+    private void requireNotScheduled(Date date) throws DukeInvalidDateTimeException {
+        if (scheduledReminders.containsKey(date)) {
             throw new DukeInvalidDateTimeException(DukeConstants.REPEATED_REMINDER);
         }
-        img = new Image("/images/DaDuke.png");
-        Date currentDate = new Date();
-        String reminderTime = DukeConstants.DEADLINE_DATE_FORMAT.format(date);
-        long seconds = date.getTime() - currentDate.getTime();
-        deadlines.setReminder(task, reminderTime, true);
-        timer = new Timer();
-        timer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                Platform.runLater(() -> {
-                    Stage owner = new Stage(StageStyle.TRANSPARENT);
-                    StackPane root = new StackPane();
-                    root.setStyle("-fx-background-color: TRANSPARENT");
-                    Scene scene = new Scene(root, 1, 1);
-                    scene.setFill(Color.TRANSPARENT);
-                    owner.setScene(scene);
-                    owner.setWidth(1);
-                    owner.setHeight(1);
-                    owner.toBack();
-                    owner.show();
-                    Notifications notificationBuilder = Notifications.create()
-                            .title("REMINDER!!!")
-                            .graphic(new ImageView(img))
-                            .text(task.getModCode() + " " + task.getDescription() + "\n" + task.getDateTime())
-                            .darkStyle()
-                            .position(Pos.BOTTOM_RIGHT)
-                            .hideAfter(Duration.INDEFINITE)
-                            .onAction(event -> {
-                                owner.close();
-                            });
-                    notificationBuilder.show();
-                    timer.cancel();
-                    deadlines.setReminder(task, reminderTime, false);
-                    remindMap.remove(date);
-                    storage.updateDeadlineList(deadlines);
-                });
+    }
+
+    private void schedule(Date date, Assignment task, String reminderTime) {
+        long milliseconds = date.getTime() - new Date().getTime();
+        Runnable fireReminder = () -> {
+            if (scheduledReminders.remove(date) == null) {
+                return;
             }
-        }, seconds);
-        timerMap.put(date, timer);
+            firedCount.incrementAndGet();
+            showNotification(task);
+            Assignment firedTask = deadlines.setReminder(task, reminderTime, false);
+            remindMap.remove(date);
+            if (firedTask != null) {
+                storage.journalReminder(firedTask);
+            }
+        };
+        ScheduledFuture<?> scheduledReminder = scheduler.schedule(isHeadless ? () -> dueReminders.add(fireReminder)
+                : () -> Platform.runLater(fireReminder), milliseconds, TimeUnit.MILLISECONDS);
+        scheduledReminders.put(date, scheduledReminder);
         remindMap.put(date, task);
-        storage.updateDeadlineList(deadlines);
+    }
+
+    /**
+     * This method lets the reminders that have gone off without a display update their tasks.
+     * It is called by the thread running the commands, before each command is run.
+     */
+    public void runDueReminders() {
+        Runnable dueReminder;
+        while ((dueReminder = dueReminders.poll()) != null) {
+            dueReminder.run();
+        }
+    }
+
+    private void showNotification(Assignment task) {
+        if (isHeadless) {
+            logger.info("Reminder: " + task.getModCode() + " " + task.getDescription() + " " + task.getDateTime());
+            return;
+        }
+        if (img == null) {
+            img = new Image("/images/DaDuke.png");
+        }
+        Stage owner = new Stage(StageStyle.TRANSPARENT);
+        StackPane root = new StackPane();
+        root.setStyle("-fx-background-color: TRANSPARENT");
+        Scene scene = new Scene(root, 1, 1);
+        scene.setFill(Color.TRANSPARENT);
+        owner.setScene(scene);
+        owner.setWidth(1);
+        owner.setHeight(1);
+        owner.toBack();
+        owner.show();
+        Notifications notificationBuilder = Notifications.create()
+                .title("REMINDER!!!")
+                .graphic(new ImageView(img))
+                .text(task.getModCode() + " " + task.getDescription() + "\n" + task.getDateTime())
+                .darkStyle()
+                .position(Pos.BOTTOM_RIGHT)
+                .hideAfter(Duration.INDEFINITE)
+                .onAction(event -> {
+                    owner.close();
+                });
+        notificationBuilder.show();
     }
 }
@@ -0,0 +1,50 @@
+package commons;
+
+import java.util.Date;
+
+/**
+ * Represents a snapshot of the reminders waiting on the reminder scheduler.
+ */
+public class ReminderMetrics {
+    private final int pendingCount;
+    private final long firedCount;
+    private final long cancelledCount;
+    private final Date nextReminder;
+
+    /**
+     * Creates a ReminderMetrics object.
+     * @param pendingCount The number of reminders waiting to go off
+     * @param firedCount The number of reminders that have gone off
+     * @param cancelledCount The number of reminders removed before going off
+     * @param nextReminder When the next reminder goes off, or null if none are waiting
+     */
+    public ReminderMetrics(int pendingCount, long firedCount, long cancelledCount, Date nextReminder) {
+        this.pendingCount = pendingCount;
+        this.firedCount = firedCount;
+        this.cancelledCount = cancelledCount;
+        this.nextReminder = nextReminder;
+    }
+
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    public long getFiredCount() {
+        return firedCount;
+    }
+
+    public long getCancelledCount() {
+        return cancelledCount;
+    }
+
+    public Date getNextReminder() {
+        return nextReminder;
+    }
+
+    @Override
+    public String toString() {
+        return pendingCount + " pending, " + firedCount + " fired, " + cancelledCount + " cancelled"
+                + (nextReminder == null ? "" : ", next at " + DateTimeCodec.formatDayDateTime(
+                DateTimeCodec.fromDate(nextReminder)));
+    }
+}
@@ -0,0 +1,38 @@
+package commons;
+
+import tasks.Assignment;
+
+/**
+ * Keeps reminders being set, going off and being removed in a journal of their own, apart from deadline.txt.
+ * Changes are written by a persistence service, which waits a moment so that reminders changing together,
+ * such as several going off in the same minute, are written to disk once.
+ */
+public class ReminderStore {
+    private final Journal journal;
+    private final PersistenceService persistenceService;
+
+    /**
+     * Creates a ReminderStore object that writes through the persistence service given.
+     * @param filePath The path of the reminder journal
+     * @param persistenceService The persistence service that writes the changes
+     */
+    public ReminderStore(String filePath, PersistenceService persistenceService) {
+        journal = new Journal(filePath);
+        this.persistenceService = persistenceService;
+    }
+
+    /**
+     * Retrieves the journal the reminder changes are written to.
+     */
+    public Journal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Queues the current reminder of the task to be written, together with any other changes made shortly after.
+     * @param task The task whose reminder was set, went off or was removed
+     */
+    public void record(Assignment task) {
+        persistenceService.record(journal, Journal.toRecord(JournalOperation.REMIND, task));
+    }
+}
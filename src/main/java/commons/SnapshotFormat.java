@@ -0,0 +1,45 @@
+package commons;
+
+/**
+ * Represents the file formats that event and deadline snapshots can be saved in.
+ * The format is picked with the duke.snapshot.format system property and defaults to text.
+ */
+public enum SnapshotFormat {
+    TEXT(".txt"),
+    BINARY(".bin");
+
+    private static final String FORMAT_PROPERTY = "duke.snapshot.format";
+    private final String extension;
+
+    SnapshotFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Retrieves the file extension used by snapshots in this format.
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Retrieves the format that is not this one, which snapshots are migrated from.
+     */
+    public SnapshotFormat other() {
+        return this == TEXT ? BINARY : TEXT;
+    }
+
+    /**
+     * This method reads the snapshot format chosen by the user, falling back to text if none or an unknown one is set.
+     * @return The chosen snapshot format
+     */
+    public static SnapshotFormat fromSystemProperty() {
+        String chosenFormat = System.getProperty(FORMAT_PROPERTY, TEXT.name());
+        for (SnapshotFormat format : values()) {
+            if (format.name().equalsIgnoreCase(chosenFormat.trim())) {
+                return format;
+            }
+        }
+        return TEXT;
+    }
+}
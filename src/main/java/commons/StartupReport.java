@@ -0,0 +1,65 @@
+package commons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Runs the phases of starting BetterDuke and keeps how long each one took, timed from when it started
+ * and from when startup began.
+ */
+public class StartupReport {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private final long startTime = System.nanoTime();
+    private final List<String> phases = new ArrayList<>();
+
+    /**
+     * Represents a phase of startup, which may fail to load what it needs.
+     */
+    public interface Phase {
+        void run() throws Exception;
+    }
+
+    /**
+     * This method runs a phase on another thread, recording how long it took once it is done.
+     * @param name The name of the phase
+     * @param phase What the phase does
+     * @return A future completed once the phase is done, or completed exceptionally if it failed
+     */
+    public CompletableFuture<Void> runAsync(String name, Phase phase) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                run(name, phase);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * This method runs a phase on the calling thread, recording how long it took once it is done.
+     * @param name The name of the phase
+     * @param phase What the phase does
+     * @throws Exception If the phase failed
+     */
+    public void run(String name, Phase phase) throws Exception {
+        long start = System.nanoTime();
+        phase.run();
+        long end = System.nanoTime();
+        synchronized (phases) {
+            phases.add(String.format("%s %.1f ms (done at %.1f ms)", name, (end - start) / NANOS_PER_MILLI,
+                    (end - startTime) / NANOS_PER_MILLI));
+        }
+    }
+
+    /**
+     * Retrieves how long each phase took, in the order they finished.
+     */
+    @Override
+    public String toString() {
+        synchronized (phases) {
+            return "Startup: " + String.join(", ", phases);
+        }
+    }
+}
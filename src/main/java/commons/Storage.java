@@ -4,47 +4,55 @@ import dukeexceptions.DukeIOException;
 import dukeexceptions.DukeInvalidDateTimeException;
 import tasks.Assignment;
 import tasks.TaskList;
-import tasks.Event;
-import tasks.Deadline;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.Set;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
 /**
  * Deals with loading or saving tasks to and from a file.
+ * Mutations are appended to a journal and periodically compacted into event.txt and deadline.txt,
+ * or into event.bin and deadline.bin when the binary snapshot format is chosen.
+ * Both are written to disk in the background by a persistence service.
+ * A manifest in the data folder stamps each snapshot with its checksum, so that one is only written again
+ * at startup if what was loaded differs from what was last saved.
  */
 public class Storage {
     private File filePath;
     private String filePathEvent;
     private String filePathDeadline;
+    private Journal eventJournal;
+    private Journal deadlineJournal;
+    private ReminderStore reminderStore;
+    private final PersistenceService persistenceService = new PersistenceService();
+    private final DataManifest manifest;
+    private final ConcurrentHashMap<String, String> pendingStamps = new ConcurrentHashMap<>();
+    private volatile boolean isEventListChanged;
+    private volatile boolean isDeadlineListChanged;
+    private final AtomicBoolean isEventCompactionPending = new AtomicBoolean(false);
+    private final AtomicBoolean isDeadlineCompactionPending = new AtomicBoolean(false);
     private Reminder reminder;
-    private LookupTable lookupTable = LookupTable.getInstance();
+    private final TaskRecordScanner recordScanner = new TaskRecordScanner();
+    private final SnapshotFormat snapshotFormat = SnapshotFormat.fromSystemProperty();
     private final Logger logger = DukeLogger.getLogger(Storage.class);
     private HashMap<String, HashMap<String, ArrayList<Assignment>>> map;
     private HashMap<Date, Assignment> reminderMap;
-    private static final int LENGTH_TO_DATE = 4;
-    private static final int LENGTH_TO_REMINDER_DATE = 3;
-    private static final int LENGTH_TO_DESCRIPTION = 5;
-    private static final int LENGTH_TO_START_TIME = 6;
-    private static final int LENGTH_TO_END_MODCODE = 1;
-    private static final int LENGTH_TO_END_DESCRIPTION = 2;
-    private static final int START_OF_DATA_STRING = 0;
-    private static final String DEADLINE_DATA_DATE_START_KEYWORD = "by:";
-    private static final String EVENT_DATA_DATE_START_KEYWORD = "at:";
-    private static final String EVENT_DATA_TIME_START_KEYWORD = "time:";
-    private static final String EVENT_DATA_TIME_END_KEYWORD = "to:";
-
-    private final String[] deadlineDelimiter = {"[D]", "by:", "[<R", "/R>]"};
-    private final String[] eventDelimiter = {"[E]", "at:", "time:", "[<R", "/R>]", "to:"};
+    private static final int COMPACTION_THRESHOLD = 100;
+    private static final String JOURNAL_FILE_EXTENSION = ".journal";
+    private static final String MANIFEST_FILE_NAME = "manifest.txt";
+    private static final String PRELOAD_STAMP_PREFIX = "preload";
 
     /**
      * Creates Storage object.
@@ -52,8 +60,14 @@ public class Storage {
     public Storage() {
         filePath = new File(System.getProperty("user.dir") + File.separator + "data");
         filePath.mkdir();
-        filePathEvent = System.getProperty("user.dir") + File.separator + "data" + File.separator + "event.txt";
-        filePathDeadline = System.getProperty("user.dir") + File.separator + "data" + File.separator + "deadline.txt";
+        filePathEvent = System.getProperty("user.dir") + File.separator + "data" + File.separator + "event";
+        filePathDeadline = System.getProperty("user.dir") + File.separator + "data" + File.separator + "deadline";
+        eventJournal = new Journal(filePathEvent + JOURNAL_FILE_EXTENSION);
+        deadlineJournal = new Journal(filePathDeadline + JOURNAL_FILE_EXTENSION);
+        reminderStore = new ReminderStore(System.getProperty("user.dir") + File.separator + "data" + File.separator
+                + "reminder" + JOURNAL_FILE_EXTENSION, persistenceService);
+        manifest = new DataManifest(System.getProperty("user.dir") + File.separator + "data" + File.separator
+                + MANIFEST_FILE_NAME);
         reminderMap = new HashMap<>();
         map = new HashMap<>();
     }
@@ -74,133 +88,299 @@ public class Storage {
     }
 
     /**
-     * Saves the TaskList of events into event.txt.
+     * Saves the TaskList of events into event.txt in the background, clearing the event journal once written.
      * @param list TaskList of events
      */
     public void updateEventList(TaskList list) {
-        PrintWriter outputStream = null;
-        try {
-            outputStream = new PrintWriter(filePathEvent, StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            logger.severe("event.txt file not found");
-        }
-        map = list.getMap();
-        Set<String> allMods = map.keySet();
-        for (String mod : allMods) {
-            Set<String> allDates = map.get(mod).keySet();
-            for (String date : allDates) {
-                ArrayList<Assignment> temp = map.get(mod).get(date);
-                for (Assignment task : temp) {
-                    outputStream.println(task.toString());
-                }
-            }
+        isEventListChanged = false;
+        compact(filePathEvent, list, eventJournal);
+    }
+
+    /**
+     * Records a change to the TaskList of events in the event journal in the background.
+     * The journal is compacted into event.txt in the background once it grows large.
+     * @param operation The mutation applied to the task
+     * @param task The task that was changed
+     * @param list TaskList of events after the change
+     */
+    public void journalEvent(JournalOperation operation, Assignment task, TaskList list) {
+        persistenceService.record(eventJournal, Journal.toRecord(operation, task));
+        if (eventJournal.getRecordCount() >= COMPACTION_THRESHOLD
+                && isEventCompactionPending.compareAndSet(false, true)) {
+            compact(filePathEvent, list, eventJournal).thenRun(() -> isEventCompactionPending.set(false));
         }
-        outputStream.close();
     }
 
     /**
-     * Reads and populates the TaskList of events from event.txt.
+     * Reads and populates the TaskList of events from event.txt and the event journal.
      * @param list TaskList of events
      * @throws DukeIOException when event.txt is not found
      */
     public void readEventList(TaskList list) throws DukeIOException {
-        ArrayList<String> temp;
+        boolean isSaved;
         try {
-            File eventFile = new File(filePathEvent);
-            eventFile.createNewFile();
-            temp = new ArrayList<>(Files.readAllLines(Paths.get(filePathEvent)));
+            isSaved = readSnapshot(filePathEvent, list);
         } catch (IOException e) {
             logger.severe("There is no event.txt to read from");
             throw new DukeIOException(DukeConstants.NO_EVENT_TXT);
         }
-        for (String string : temp) {
-            if (string.isEmpty()) {
-                continue;
-            }
-            boolean isValid = true;
-            for (int i = 0; i < eventDelimiter.length; i++) {
-                if (!string.contains(eventDelimiter[i])) {
-                    isValid = false;
-                    break;
-                }
-            }
-            if (isValid) {
-                Assignment task = stringToTask(string);
-                if (task == null) {
-                    break;
-                }
-                list.addTask(task);
-            }
+        if (replayJournal(eventJournal, list) > 0 || !isSaved) {
+            isEventListChanged = true;
         }
     }
 
     /**
-     * Saves the TaskList of deadlines into deadline.txt.
+     * Adds the preloaded events to the TaskList, unless this data folder already has the same preloaded events.
+     * @param preloadStorage The PreloadStorage object holding the preloaded events
+     * @param list TaskList of events
+     * @throws DukeIOException when preloadevent.txt is not found
+     */
+    public void preloadEventList(PreloadStorage preloadStorage, TaskList list) throws DukeIOException {
+        String version = preloadStorage.getEventVersion();
+        String stampKey = PRELOAD_STAMP_PREFIX + new File(filePathEvent).getName();
+        if (!version.equals(manifest.get(stampKey))) {
+            preloadStorage.readEventList(list);
+            pendingStamps.put(stampKey, version);
+            isEventListChanged = true;
+        }
+    }
+
+    /**
+     * Checks whether the TaskList of events loaded differs from event.txt as it was last saved.
+     */
+    public boolean isEventListChanged() {
+        return isEventListChanged;
+    }
+
+    /**
+     * Saves the TaskList of deadlines into deadline.txt in the background,
+     * clearing the deadline and reminder journals once written.
      * @param list TaskList of deadlines
      */
     public void updateDeadlineList(TaskList list) {
-        PrintWriter outputStream = null;
+        isDeadlineListChanged = false;
+        compact(filePathDeadline, list, deadlineJournal, reminderStore.getJournal());
+    }
+
+    /**
+     * Records a change to the TaskList of deadlines in the deadline journal in the background.
+     * The journal is compacted into deadline.txt in the background once it grows large.
+     * @param operation The mutation applied to the task
+     * @param task The task that was changed
+     * @param list TaskList of deadlines after the change
+     */
+    public void journalDeadline(JournalOperation operation, Assignment task, TaskList list) {
+        persistenceService.record(deadlineJournal, Journal.toRecord(operation, task));
+        if (deadlineJournal.getRecordCount() >= COMPACTION_THRESHOLD
+                && isDeadlineCompactionPending.compareAndSet(false, true)) {
+            compact(filePathDeadline, list, deadlineJournal, reminderStore.getJournal())
+                    .thenRun(() -> isDeadlineCompactionPending.set(false));
+        }
+    }
+
+    /**
+     * Records that the reminder of a deadline was set, went off or was removed in the reminder journal.
+     * Changes made close together are written to disk in one go.
+     * @param task The deadline in the TaskList after its reminder changed
+     */
+    public void journalReminder(Assignment task) {
+        reminderStore.record(task);
+    }
+
+    /**
+     * Writes every change still waiting to be saved and waits for it to be on disk.
+     */
+    public void flush() {
+        persistenceService.flush();
+    }
+
+    /**
+     * Reads the snapshot in the chosen format, or the one in the other format if it has not been migrated yet.
+     * @return true if the snapshot read is in the chosen format and is the one stamped in the manifest
+     */
+    private boolean readSnapshot(String snapshotPath, TaskList list) throws IOException {
+        SnapshotFormat format = snapshotFormat;
+        if (!new File(snapshotPath + format.getExtension()).exists()
+                && new File(snapshotPath + format.other().getExtension()).exists()) {
+            format = format.other();
+        }
+        File snapshotFile = new File(snapshotPath + format.getExtension());
+        if (format == SnapshotFormat.BINARY) {
+            if (!snapshotFile.exists()) {
+                return false;
+            }
+            BinarySnapshot.read(snapshotFile.toPath(), recordScanner, list);
+        } else {
+            snapshotFile.createNewFile();
+            recordScanner.scanFile(snapshotFile.toPath(), list);
+        }
+        PerformanceMetrics.getInstance().recordSnapshotRead(snapshotFile.length());
+        String stamp = manifest.get(snapshotFile.getName());
+        if (format != snapshotFormat || stamp == null) {
+            return false;
+        }
+        try (InputStream content = new FileInputStream(snapshotFile)) {
+            return stamp.equals(DataManifest.checksum(content));
+        }
+    }
+
+    /**
+     * Takes a snapshot of the TaskList on the calling thread and queues it to be written in the background.
+     * Records appended to the journals after the snapshot was taken are kept.
+     */
+    private CompletableFuture<Void> compact(String snapshotPath, TaskList list, Journal... journals) {
+        ArrayList<Assignment> tasks = new ArrayList<>();
+        map = list.getMap();
+        for (HashMap<String, ArrayList<Assignment>> dates : map.values()) {
+            for (ArrayList<Assignment> tasksOnDate : dates.values()) {
+                tasks.addAll(tasksOnDate);
+            }
+        }
+        byte[] content = snapshotFormat == SnapshotFormat.BINARY ? BinarySnapshot.encode(tasks) : encodeText(tasks);
+        File snapshotFile = new File(snapshotPath + snapshotFormat.getExtension());
+        String checksum = DataManifest.checksum(content);
+        return persistenceService.saveSnapshot(snapshotFile.getPath(), content,
+                snapshotPath + snapshotFormat.other().getExtension(),
+            () -> stampSnapshot(snapshotFile, checksum), journals);
+    }
+
+    /**
+     * Stamps the snapshot just written in the manifest, together with the version of the preloaded tasks it holds
+     * if they were added since the last one.
+     */
+    private void stampSnapshot(File snapshotFile, String checksum) {
+        HashMap<String, String> stamps = new HashMap<>();
+        stamps.put(snapshotFile.getName(), checksum);
+        String preloadStampKey = PRELOAD_STAMP_PREFIX + snapshotFile.getName().replace(snapshotFormat.getExtension(),
+                DukeConstants.NO_FIELD);
+        String preloadVersion = pendingStamps.remove(preloadStampKey);
+        if (preloadVersion != null) {
+            stamps.put(preloadStampKey, preloadVersion);
+        }
         try {
-            outputStream = new PrintWriter(filePathDeadline, StandardCharsets.UTF_8);
+            manifest.save(stamps);
         } catch (IOException e) {
-            logger.severe("deadline.txt not found");
+            logger.severe("Unable to stamp " + snapshotFile.getName() + " in " + MANIFEST_FILE_NAME);
         }
-        map = list.getMap();
-        Set<String> allMods = map.keySet();
-        for (String mod : allMods) {
-            Set<String> allDates = map.get(mod).keySet();
-            for (String date : allDates) {
-                ArrayList<Assignment> temp = map.get(mod).get(date);
-                for (Assignment task : temp) {
-                    outputStream.println(task.toString());
+    }
+
+    private byte[] encodeText(List<Assignment> tasks) {
+        StringBuilder text = new StringBuilder();
+        for (Assignment task : tasks) {
+            text.append(task.toString()).append(System.lineSeparator());
+        }
+        return text.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Applies the records in the journal, oldest first, on top of the tasks read from the snapshot.
+     * @return The number of records in the journal
+     */
+    private int replayJournal(Journal journal, TaskList list) {
+        List<String[]> records;
+        try {
+            records = journal.readRecords();
+        } catch (IOException e) {
+            logger.severe("Unable to read journal file");
+            return 0;
+        }
+        for (String[] record : records) {
+            Assignment task = stringToTask(record[1]);
+            if (task == null) {
+                continue;
+            }
+            JournalOperation operation;
+            try {
+                operation = JournalOperation.valueOf(record[0]);
+            } catch (IllegalArgumentException e) {
+                logger.severe("Unknown journal operation " + record[0]);
+                continue;
+            }
+            switch (operation) {
+            case ADD:
+                list.addTask(task);
+                break;
+            case REMOVE:
+                if (list.containsTask(task)) {
+                    list.removeTask(task);
+                }
+                break;
+            case DONE:
+                if (list.containsTask(task)) {
+                    list.updateTask(task);
                 }
+                break;
+            case REMIND:
+                if (list.containsTask(task)) {
+                    list.setReminder(task, task.getRemindTime(), task.getIsReminder());
+                }
+                break;
+            default:
+                break;
             }
         }
-        outputStream.close();
+        return records.size();
     }
 
     /**
-     * Reads and populates the TaskList of deadlines from deadline.txt.
+     * Reads and populates the TaskList of deadlines from deadline.txt and the deadline journal.
      * @param list TaskList of deadlines
      * @throws DukeIOException when deadline.txt is not found
      */
     public void readDeadlineList(TaskList list) throws DukeIOException {
-        ArrayList<String> temp;
+        boolean isSaved;
         try {
-            File deadlineFile = new File(filePathDeadline);
-            deadlineFile.createNewFile();
-            temp = new ArrayList<>(Files.readAllLines(Paths.get(filePathDeadline)));
+            isSaved = readSnapshot(filePathDeadline, list);
         } catch (IOException e) {
             logger.severe("There is no deadline.txt to read from");
             throw new DukeIOException(DukeConstants.NO_DEADLINE_TXT);
         }
-        for (String string : temp) {
-            boolean isValid = true;
-            for (int i = 0; i < deadlineDelimiter.length; i++) {
-                if (!string.contains(deadlineDelimiter[i])) {
-                    isValid = false;
-                    break;
-                }
-            }
-            if (isValid) {
-                Assignment task = stringToTask(string);
-                if (task == null) {
-                    break;
-                }
-                list.addTask(task);
-                if (task.getIsReminder()) {
-                    Date date = null;
-                    try {
-                        date = DukeConstants.DEADLINE_DATE_FORMAT.parse(task.getRemindTime());
-                    } catch (ParseException e) {
-                        logger.severe("Reminder time is wrongly recorded");
+        int recordCount = replayJournal(deadlineJournal, list);
+        flush();
+        recordCount += replayJournal(reminderStore.getJournal(), list);
+        if (recordCount > 0 || !isSaved) {
+            isDeadlineListChanged = true;
+        }
+        for (HashMap<String, ArrayList<Assignment>> dates : list.getMap().values()) {
+            for (ArrayList<Assignment> tasks : dates.values()) {
+                for (Assignment task : tasks) {
+                    if (task.getIsReminder()) {
+                        Date date = null;
+                        try {
+                            date = DateTimeCodec.toDate(DateTimeCodec.parseDayDateTime(task.getRemindTime()));
+                        } catch (ParseException e) {
+                            logger.severe("Reminder time is wrongly recorded");
+                        }
+                        reminderMap.put(date, task);
                     }
-                    reminderMap.put(date, task);
                 }
             }
         }
     }
 
+    /**
+     * Adds the preloaded deadlines to the TaskList, unless this data folder already has the same preloaded deadlines.
+     * @param preloadStorage The PreloadStorage object holding the preloaded deadlines
+     * @param list TaskList of deadlines
+     * @throws DukeIOException when preloaddeadline.txt is not found
+     */
+    public void preloadDeadlineList(PreloadStorage preloadStorage, TaskList list) throws DukeIOException {
+        String version = preloadStorage.getDeadlineVersion();
+        String stampKey = PRELOAD_STAMP_PREFIX + new File(filePathDeadline).getName();
+        if (!version.equals(manifest.get(stampKey))) {
+            preloadStorage.readDeadlineList(list);
+            pendingStamps.put(stampKey, version);
+            isDeadlineListChanged = true;
+        }
+    }
+
+    /**
+     * Checks whether the TaskList of deadlines loaded differs from deadline.txt as it was last saved.
+     */
+    public boolean isDeadlineListChanged() {
+        return isDeadlineListChanged;
+    }
+
     /**
      * Retrieves reminderMap.
      */
@@ -209,85 +389,39 @@ public class Storage {
     }
 
     protected Assignment stringToTask(String string) {
-        Assignment line = null;
-        try {
-            if (string.contains(DukeConstants.DEADLINE_INDICATOR)) {
-                String dateFromData = string.substring(string.indexOf(DEADLINE_DATA_DATE_START_KEYWORD)
-                        + LENGTH_TO_DATE, string.indexOf(DukeConstants.DATA_TIME_STRING_TERMINATOR)).trim();
-                String remindTime = string.substring(string.indexOf(DukeConstants.REMINDER_TIME_START_KEYWORD)
-                        + LENGTH_TO_REMINDER_DATE, string.indexOf(DukeConstants.REMINDER_TIME_END_KEYWORD));
-                Date date = DukeConstants.DEADLINE_DATE_FORMAT.parse(dateFromData);
-                String dateString = DukeConstants.DAY_DATE_FORMAT.format(date);
-                String timeString = DukeConstants.TWELVE_HOUR_TIME_FORMAT.format(date);
-                String modCode = string.substring(START_OF_DATA_STRING, string.indexOf(DukeConstants.DEADLINE_INDICATOR)
-                        - LENGTH_TO_END_MODCODE);
-                String description = string.substring(string.indexOf(DukeConstants.REMINDER_TIME_END_KEYWORD)
-                        + LENGTH_TO_DESCRIPTION, string.indexOf(DEADLINE_DATA_DATE_START_KEYWORD)
-                        - LENGTH_TO_END_DESCRIPTION);
-                line = new Deadline(modCode + DukeConstants.BLANK_SPACE + description, dateString, timeString);
-                line.setRemindTime(remindTime);
-            } else {
-                String dateFromData = string.substring(string.indexOf(EVENT_DATA_DATE_START_KEYWORD) + LENGTH_TO_DATE,
-                        string.indexOf(EVENT_DATA_TIME_START_KEYWORD)).trim();
-                String startTimeFromData = string.substring(string.indexOf(EVENT_DATA_TIME_START_KEYWORD)
-                        + LENGTH_TO_START_TIME, string.indexOf(EVENT_DATA_TIME_END_KEYWORD));
-                String endTimeFromData = string.substring(string.indexOf(EVENT_DATA_TIME_END_KEYWORD)
-                        + LENGTH_TO_REMINDER_DATE, string.indexOf(DukeConstants.DATA_TIME_STRING_TERMINATOR)).trim();
-                Date startTime = DukeConstants.TWELVE_HOUR_TIME_FORMAT.parse(startTimeFromData);
-                Date endTime = DukeConstants.TWELVE_HOUR_TIME_FORMAT.parse(endTimeFromData);
-                Date date = DukeConstants.DAY_DATE_FORMAT.parse(dateFromData);
-                String dateString = DukeConstants.DAY_DATE_FORMAT.format(date);
-                String startTimeString = DukeConstants.TWELVE_HOUR_TIME_FORMAT.format(startTime);
-                String endTimeString = DukeConstants.TWELVE_HOUR_TIME_FORMAT.format(endTime);
-                String modCode = string.substring(START_OF_DATA_STRING, string.indexOf(DukeConstants.EVENT_INDICATOR)
-                        - LENGTH_TO_END_MODCODE);
-                String description = string.substring(string.indexOf(DukeConstants.REMINDER_TIME_END_KEYWORD)
-                        + LENGTH_TO_DESCRIPTION, string.indexOf(EVENT_DATA_DATE_START_KEYWORD)
-                        - LENGTH_TO_END_DESCRIPTION);
-                line = new Event(modCode + DukeConstants.BLANK_SPACE + description, dateString,
-                        startTimeString, endTimeString);
-            }
-            if (string.contains(DukeConstants.DONE_INDICATOR)) {
-                line.setDone(true);
-            }
-            if (string.contains(DukeConstants.HAS_REMINDER_INDICATOR)) {
-                line.setReminder(true);
-            }
-            String taskDateString = line.getDate();
-            Date taskDate = DukeConstants.DAY_DATE_FORMAT.parse(taskDateString);
-            taskDateString = DukeConstants.EVENT_DATE_INPUT_FORMAT.format(taskDate);
-            String nullChecker = lookupTable.getValue(taskDateString);
-            if (nullChecker == null) {
-                logger.severe("Date does not exist in LookupTable. Check date again");
-                return null;
-            }
-        } catch (ParseException | StringIndexOutOfBoundsException | NullPointerException e) {
+        Assignment task = recordScanner.parse(string);
+        if (task == null) {
             logger.severe("Unable to parse data from event.txt or deadline.txt");
         }
-        return line;
+        return task;
     }
 
     /**
      * Starts the thread on existing reminders set from deadline.txt.
-     * @throws DukeInvalidDateTimeException On setReminderThread invalid date parameter
+     * The reminders are only scheduled again, so deadline.txt is not changed by starting up.
+     * Reminders whose time has already passed are dropped from reminderMap, as they will not go off.
+     * @throws DukeInvalidDateTimeException On armReminder invalid date parameter
      */
     public void setReminderOnStart() throws DukeInvalidDateTimeException {
-        Set<Date> dateKey = reminderMap.keySet();
-        for (Date date : dateKey) {
+        Iterator<Map.Entry<Date, Assignment>> reminders = reminderMap.entrySet().iterator();
+        while (reminders.hasNext()) {
             Date remindDate = new Date();
             Date currentDate = new Date();
-            Assignment task = reminderMap.get(date);
+            Assignment task = reminders.next().getValue();
             String remindTime = task.getRemindTime();
             try {
-                remindDate = DukeConstants.DEADLINE_DATE_FORMAT.parse(remindTime);
+                remindDate = DateTimeCodec.toDate(DateTimeCodec.parseDayDateTime(remindTime));
             } catch (ParseException e) {
                 logger.severe("Reminder date is wrong in deadline.txt. Unable to parse");
             }
             if (remindDate.after(currentDate)) {
-                reminder.setReminderThread(remindDate, task);
+                reminder.armReminder(remindDate, task);
+            } else {
+                reminders.remove();
             }
         }
         if (!reminderMap.isEmpty()) {
+            logger.info("Reminders set on start: " + reminder.getMetrics());
             reminder.reminderOnStartAlert();
         }
     }
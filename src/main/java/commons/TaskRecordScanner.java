@@ -0,0 +1,348 @@
+package commons;
+
+import tasks.Assignment;
+import tasks.Deadline;
+import tasks.Event;
+import tasks.TaskList;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Turns the lines of event.txt and deadline.txt back into tasks.
+ * Each record is tokenized in a single forward scan over the file contents, and the date and time fields,
+ * which repeat heavily across records, are normalised once per distinct value.
+ */
+public class TaskRecordScanner {
+    private static final int MAPPING_THRESHOLD_BYTES = 1 << 20;
+    private static final int LENGTH_TO_END_MODCODE = 1;
+    private static final int LENGTH_TO_DESCRIPTION = 1;
+    private static final int LENGTH_TO_END_DESCRIPTION = 2;
+    private static final String DEADLINE_DATA_DATE_START_KEYWORD = "by:";
+    private static final String EVENT_DATA_DATE_START_KEYWORD = "at:";
+    private static final String EVENT_DATA_TIME_START_KEYWORD = "time:";
+    private static final String EVENT_DATA_TIME_END_KEYWORD = "to:";
+    private static final char DONE_CHARACTER = DukeConstants.DONE_INDICATOR.charAt(0);
+    private final Logger logger = DukeLogger.getLogger(TaskRecordScanner.class);
+    private final FieldCache modCodes = new FieldCache();
+    private final FieldCache eventDates = new FieldCache();
+    private final FieldCache eventTimes = new FieldCache();
+    private final FieldCache deadlineDates = new FieldCache();
+    private final FieldCache deadlineTimes = new FieldCache();
+    private final Function<String, String> identity = value -> value;
+    private final Function<String, String> eventDateNormaliser = this::normaliseEventDate;
+    private final Function<String, String> eventTimeNormaliser = this::normaliseEventTime;
+    private final Function<String, String> deadlineDateNormaliser = this::normaliseDeadlineDate;
+    private final Function<String, String> deadlineTimeNormaliser = this::normaliseDeadlineTime;
+
+    /**
+     * This method reads every record in the file and adds the tasks it describes to the list.
+     * Small files are read into memory in one call while larger ones are memory-mapped.
+     * Records that cannot be understood are logged and skipped.
+     * @param filePath The path of event.txt or deadline.txt
+     * @param list The TaskList to populate
+     * @throws IOException when the file cannot be read
+     */
+    public void scanFile(Path filePath, TaskList list) throws IOException {
+        CharBuffer contents = decode(filePath);
+        int length = contents.length();
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && contents.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int recordEnd = lineEnd;
+            if (recordEnd > lineStart && contents.get(recordEnd - 1) == '\r') {
+                recordEnd--;
+            }
+            if (recordEnd > lineStart) {
+                Assignment task = parse(contents, lineStart, recordEnd);
+                if (task == null) {
+                    logger.severe("Skipping unreadable record in " + filePath.getFileName());
+                } else {
+                    list.addTask(task);
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+    }
+
+    private CharBuffer decode(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer bytes;
+            if (size >= MAPPING_THRESHOLD_BYTES) {
+                bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                bytes = ByteBuffer.allocate((int) size);
+                while (bytes.hasRemaining() && channel.read(bytes) >= 0) {
+                    continue;
+                }
+                bytes.flip();
+            }
+            return StandardCharsets.UTF_8.decode(bytes);
+        }
+    }
+
+    /**
+     * This method converts a single storage string back into the task it describes.
+     * @param record The storage string of the task
+     * @return The task, or null if the record is malformed or falls outside the academic calendar
+     */
+    public Assignment parse(String record) {
+        return parse(record, 0, record.length());
+    }
+
+    /**
+     * This method converts the storage string between start and end back into the task it describes.
+     * @param text The text holding the record
+     * @param start The index of the first character of the record
+     * @param end The index after the last character of the record
+     * @return The task, or null if the record is malformed or falls outside the academic calendar
+     */
+    public Assignment parse(CharSequence text, int start, int end) {
+        int typeIndex = indexOfType(text, start, end);
+        if (typeIndex < 0) {
+            return null;
+        }
+        final boolean isDeadline = text.charAt(typeIndex + 1) == DukeConstants.DEADLINE_INDICATOR.charAt(1);
+        int statusIndex = typeIndex + DukeConstants.DEADLINE_INDICATOR.length();
+        int reminderFlagIndex = statusIndex + DukeConstants.DEADLINE_INDICATOR.length();
+        int remindStart = indexOf(text, reminderFlagIndex, end, DukeConstants.REMINDER_TIME_START_KEYWORD);
+        if (typeIndex - LENGTH_TO_END_MODCODE < start || remindStart < 0) {
+            return null;
+        }
+        final boolean isDone = text.charAt(statusIndex + 1) == DONE_CHARACTER;
+        final boolean hasReminder = regionMatches(text, reminderFlagIndex, end, DukeConstants.HAS_REMINDER_INDICATOR);
+        remindStart += DukeConstants.REMINDER_TIME_START_KEYWORD.length();
+        int remindEnd = indexOf(text, remindStart, end, DukeConstants.REMINDER_TIME_END_KEYWORD);
+        if (remindEnd < 0) {
+            return null;
+        }
+        int descriptionStart = remindEnd + DukeConstants.REMINDER_TIME_END_KEYWORD.length() + LENGTH_TO_DESCRIPTION;
+        String modCode = modCodes.lookup(text, start, typeIndex - LENGTH_TO_END_MODCODE, identity);
+        Assignment task = isDeadline ? parseDeadline(text, descriptionStart, end, modCode)
+                : parseEvent(text, descriptionStart, end, modCode);
+        if (task == null) {
+            return null;
+        }
+        if (remindEnd > remindStart) {
+            task.setRemindTime(text.subSequence(remindStart, remindEnd).toString());
+        }
+        task.setDone(isDone);
+        task.setReminder(hasReminder);
+        return task;
+    }
+
+    private Assignment parseDeadline(CharSequence text, int descriptionStart, int end, String modCode) {
+        int keyword = indexOf(text, descriptionStart, end, DEADLINE_DATA_DATE_START_KEYWORD);
+        if (keyword < 0) {
+            return null;
+        }
+        int dateStart = keyword + DEADLINE_DATA_DATE_START_KEYWORD.length();
+        int dateEnd = indexOf(text, dateStart, end, DukeConstants.DATA_TIME_STRING_TERMINATOR);
+        int descriptionEnd = keyword - LENGTH_TO_END_DESCRIPTION;
+        if (dateEnd < 0 || descriptionEnd < descriptionStart) {
+            return null;
+        }
+        dateStart = skipWhitespace(text, dateStart, dateEnd);
+        dateEnd = trimWhitespace(text, dateStart, dateEnd);
+        String date = deadlineDates.lookup(text, dateStart, dateEnd, deadlineDateNormaliser);
+        String time = deadlineTimes.lookup(text, dateStart, dateEnd, deadlineTimeNormaliser);
+        if (date == null || time == null) {
+            return null;
+        }
+        return new Deadline(describe(modCode, text, descriptionStart, descriptionEnd), date, time);
+    }
+
+    private Assignment parseEvent(CharSequence text, int descriptionStart, int end, String modCode) {
+        int dateKeyword = indexOf(text, descriptionStart, end, EVENT_DATA_DATE_START_KEYWORD);
+        int startKeyword = dateKeyword < 0 ? -1 : indexOf(text, dateKeyword, end, EVENT_DATA_TIME_START_KEYWORD);
+        int endKeyword = startKeyword < 0 ? -1 : indexOf(text, startKeyword, end, EVENT_DATA_TIME_END_KEYWORD);
+        int terminator = endKeyword < 0 ? -1 : indexOf(text, endKeyword, end,
+                DukeConstants.DATA_TIME_STRING_TERMINATOR);
+        int descriptionEnd = dateKeyword - LENGTH_TO_END_DESCRIPTION;
+        if (terminator < 0 || descriptionEnd < descriptionStart) {
+            return null;
+        }
+        int dateStart = skipWhitespace(text, dateKeyword + EVENT_DATA_DATE_START_KEYWORD.length(), startKeyword);
+        int startTimeStart = skipWhitespace(text, startKeyword + EVENT_DATA_TIME_START_KEYWORD.length(),
+                endKeyword);
+        int endTimeStart = skipWhitespace(text, endKeyword + EVENT_DATA_TIME_END_KEYWORD.length(), terminator);
+        String date = eventDates.lookup(text, dateStart, trimWhitespace(text, dateStart, startKeyword),
+                eventDateNormaliser);
+        String startTime = eventTimes.lookup(text, startTimeStart, trimWhitespace(text, startTimeStart, endKeyword),
+                eventTimeNormaliser);
+        String endTime = eventTimes.lookup(text, endTimeStart, trimWhitespace(text, endTimeStart, terminator),
+                eventTimeNormaliser);
+        if (date == null || startTime == null || endTime == null) {
+            return null;
+        }
+        return new Event(describe(modCode, text, descriptionStart, descriptionEnd), date, startTime, endTime);
+    }
+
+    private String describe(String modCode, CharSequence text, int start, int end) {
+        return new StringBuilder(modCode.length() + 1 + end - start).append(modCode)
+                .append(DukeConstants.BLANK_SPACE).append(text, start, end).toString();
+    }
+
+    private String normaliseEventDate(String date) {
+        try {
+            return withinCalendar(DateTimeCodec.parseDayDate(date));
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    private String normaliseEventTime(String time) {
+        try {
+            return DateTimeCodec.formatTwelveHourTime(DateTimeCodec.parseTwelveHourTime(time));
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    private String normaliseDeadlineDate(String dateTime) {
+        try {
+            return withinCalendar(DateTimeCodec.parseDayDateTime(dateTime).toLocalDate());
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    private String normaliseDeadlineTime(String dateTime) {
+        try {
+            return DateTimeCodec.formatTwelveHourTime(DateTimeCodec.parseDayDateTime(dateTime).toLocalTime());
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Formats the date for storage, or returns null when it is not in the AcademicCalendar.
+     */
+    private String withinCalendar(LocalDate date) {
+        if (!AcademicCalendar.getInstance().contains(date)) {
+            logger.severe("Date does not exist in AcademicCalendar. Check date again");
+            return null;
+        }
+        return DateTimeCodec.formatDayDate(date);
+    }
+
+    private static int indexOfType(CharSequence text, int start, int end) {
+        for (int i = start; i + 2 < end; i++) {
+            if (text.charAt(i) == '[' && text.charAt(i + 2) == ']') {
+                char type = text.charAt(i + 1);
+                if (type == DukeConstants.DEADLINE_INDICATOR.charAt(1)
+                        || type == DukeConstants.EVENT_INDICATOR.charAt(1)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(CharSequence text, int from, int end, String target) {
+        int last = end - target.length();
+        for (int i = from; i <= last; i++) {
+            if (regionMatches(text, i, end, target)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean regionMatches(CharSequence text, int from, int end, String target) {
+        if (from + target.length() > end) {
+            return false;
+        }
+        for (int j = 0; j < target.length(); j++) {
+            if (text.charAt(from + j) != target.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipWhitespace(CharSequence text, int start, int end) {
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimWhitespace(CharSequence text, int start, int end) {
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Open-addressing map from a range of characters to its normalised value.
+     * Looking up a value that has been seen before does not allocate.
+     * Lookups are synchronized so that events and deadlines can be read at the same time.
+     */
+    private static final class FieldCache {
+        private static final int INITIAL_CAPACITY = 64;
+        private static final String INVALID = new String(DukeConstants.NO_FIELD);
+        private String[] keys = new String[INITIAL_CAPACITY];
+        private String[] values = new String[INITIAL_CAPACITY];
+        private int size = 0;
+
+        synchronized String lookup(CharSequence text, int start, int end, Function<String, String> normaliser) {
+            int mask = keys.length - 1;
+            int slot = hash(text, start, end) & mask;
+            while (keys[slot] != null) {
+                if (keys[slot].length() == end - start && regionMatches(text, start, end, keys[slot])) {
+                    return values[slot] == INVALID ? null : values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            String key = text.subSequence(start, end).toString();
+            String value = normaliser.apply(key);
+            keys[slot] = key;
+            values[slot] = value == null ? INVALID : value;
+            size++;
+            if (size * 2 > keys.length) {
+                resize();
+            }
+            return value;
+        }
+
+        private void resize() {
+            String[] oldKeys = keys;
+            String[] oldValues = values;
+            keys = new String[oldKeys.length * 2];
+            values = new String[oldValues.length * 2];
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    int slot = hash(oldKeys[i], 0, oldKeys[i].length()) & mask;
+                    while (keys[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        private static int hash(CharSequence text, int start, int end) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + text.charAt(i);
+            }
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package commons;
 
 import tasks.Assignment;
+import tasks.TaskList;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Date;
@@ -13,6 +14,10 @@ import java.util.TreeMap;
  */
 public class UserInteraction {
     private static final String NO_FIELD = "void";
+    private static final double MEDIAN = 50;
+    private static final double NINETY_NINTH = 99;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
     private final String byeMessage = "Bye. Hope to see you again soon!\n";
 
     /**
@@ -147,6 +152,28 @@ public class UserInteraction {
         return out;
     }
 
+    /**
+     * Displays how many events and deadlines were imported.
+     * @param eventCount The number of events imported
+     * @param deadlineCount The number of deadlines imported
+     * @param filePath The file they were imported from
+     */
+    public String showImport(int eventCount, int deadlineCount, String filePath) {
+        return "Imported " + eventCount + " events and " + deadlineCount + " deadlines from " + filePath + "\n";
+    }
+
+    /**
+     * Displays why the lines of a file could not be imported.
+     * @param problems The problem with each line that could not be imported
+     */
+    public String showImportProblems(ArrayList<String> problems) {
+        StringBuilder out = new StringBuilder("Sorry, nothing was imported. Please fix the following lines: \n");
+        for (int i = 0; i < problems.size(); i++) {
+            out.append(i + 1).append(". ").append(problems.get(i)).append("\n");
+        }
+        return out.toString();
+    }
+
     /**
      * Display task with instance of keyword.
      * @param list List of task with keyword
@@ -157,11 +184,12 @@ public class UserInteraction {
         if (list.size() == 0) {
             return "There are no task(s) matching your keyword.";
         } else {
-            String message = "Here are the following events/deadline with the keyword " + keyword + "\n";
+            StringBuilder message = new StringBuilder("Here are the following events/deadline with the keyword ")
+                    .append(keyword).append("\n");
             for (int i = 1; i <= list.size(); i++) {
-                message +=  i + ". " + list.get(i - 1) + "\n";
+                message.append(i).append(". ").append(list.get(i - 1)).append("\n");
             }
-            return message;
+            return message.toString();
         }
     }
 
@@ -223,4 +251,43 @@ public class UserInteraction {
         String message = "Your chosen previous input is: \n" + chosenInput;
         return message;
     }
-}
\ No newline at end of file
+
+    /**
+     * Display how long each kind of command took, how much was read and written, how many tasks there are
+     * and how much memory is in use.
+     * @param metrics The times and counts recorded since BetterDuke started
+     * @param events The TaskList object for events
+     * @param deadlines The TaskList object for deadlines
+     * @param usedHeap The bytes of heap in use
+     * @param maxHeap The most bytes of heap that can be used
+     * @return the statistics, one line each
+     */
+    public String showStats(PerformanceMetrics metrics, TaskList events, TaskList deadlines, long usedHeap,
+                            long maxHeap) {
+        StringBuilder stats = new StringBuilder("Command latency in ms (count, p50, p99, max):\n");
+        for (Map.Entry<String, LatencyHistogram> command : metrics.getParseLatencies().entrySet()) {
+            stats.append(formatLatency(command.getKey() + " parse", command.getValue()));
+        }
+        for (Map.Entry<String, LatencyHistogram> command : metrics.getExecuteLatencies().entrySet()) {
+            stats.append(formatLatency(command.getKey() + " execute", command.getValue()));
+        }
+        stats.append(formatLatency("Saving to disk", metrics.getWriteLatency()));
+        stats.append(formatLatency("Window refresh", metrics.getRefreshLatency()));
+        stats.append(String.format("Journal: %d records in %d writes, %d bytes%n", metrics.getJournalRecords(),
+                metrics.getJournalWrites(), metrics.getJournalBytes()));
+        stats.append(String.format("Snapshots: %d written, %d bytes; %d read, %d bytes%n",
+                metrics.getSnapshotWrites(), metrics.getSnapshotBytes(), metrics.getSnapshotReads(),
+                metrics.getBytesRead()));
+        stats.append(String.format("Tasks: %d events (%d done), %d deadlines (%d done)%n", events.taskListSize(),
+                events.getStatistics().getDone(), deadlines.taskListSize(), deadlines.getStatistics().getDone()));
+        stats.append(String.format("Heap: %d MB used of %d MB", usedHeap / BYTES_PER_MEGABYTE,
+                maxHeap / BYTES_PER_MEGABYTE));
+        return stats.toString();
+    }
+
+    private String formatLatency(String name, LatencyHistogram latency) {
+        return String.format("%s: %d, %.3f, %.3f, %.3f%n", name, latency.getCount(),
+                latency.getPercentile(MEDIAN) / NANOS_PER_MILLI, latency.getPercentile(NINETY_NINTH) / NANOS_PER_MILLI,
+                latency.getMax() / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,29 @@
+package commons;
+
+import tasks.Assignment;
+
+/**
+ * Represents one event shown in the week view, keeping when it starts so that a day can be ordered
+ * without reading the event again.
+ */
+public class WeekEntry {
+    private final long startMinute;
+    private final Assignment task;
+
+    /**
+     * Creates WeekEntry object.
+     * @param task The event to show
+     */
+    public WeekEntry(Assignment task) {
+        this.startMinute = task.getStartMinute();
+        this.task = task;
+    }
+
+    public long getStartMinute() {
+        return startMinute;
+    }
+
+    public Assignment getTask() {
+        return task;
+    }
+}
@@ -1,22 +1,26 @@
 package commons;
 
 import javafx.collections.ObservableList;
-import javafx.scene.text.Text;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 
 public class WeekList {
-    private ObservableList<Text> monList;
-    private ObservableList<Text> tueList;
-    private ObservableList<Text> wedList;
-    private ObservableList<Text> thuList;
-    private ObservableList<Text> friList;
-    private ObservableList<Text> satList;
-    private ObservableList<Text> sunList;
+    private static final int DAYS_PER_WEEK = 7;
+    private LocalDate firstDate;
+    private ObservableList<WeekEntry> monList;
+    private ObservableList<WeekEntry> tueList;
+    private ObservableList<WeekEntry> wedList;
+    private ObservableList<WeekEntry> thuList;
+    private ObservableList<WeekEntry> friList;
+    private ObservableList<WeekEntry> satList;
+    private ObservableList<WeekEntry> sunList;
 
     public WeekList() {
     }
 
     /**
      * This method constructs WeekList class.
+     * @param firstDate The date of the monday of the week, or null if the week is not in the academic calendar
      * @param monList The list of events on monday
      * @param tueList The list of events on tuesday
      * @param wedList The list of events on wednesday
@@ -25,9 +29,11 @@ public class WeekList {
      * @param satList The list of events on saturday
      * @param sunList The list of events on sunday
      */
-    public WeekList(ObservableList<Text> monList, ObservableList<Text> tueList, ObservableList<Text> wedList,
-                    ObservableList<Text> thuList, ObservableList<Text> friList, ObservableList<Text> satList,
-                    ObservableList<Text> sunList) {
+    public WeekList(LocalDate firstDate, ObservableList<WeekEntry> monList, ObservableList<WeekEntry> tueList,
+                    ObservableList<WeekEntry> wedList, ObservableList<WeekEntry> thuList,
+                    ObservableList<WeekEntry> friList, ObservableList<WeekEntry> satList,
+                    ObservableList<WeekEntry> sunList) {
+        this.firstDate = firstDate;
         this.monList = monList;
         this.tueList = tueList;
         this.wedList = wedList;
@@ -37,32 +43,61 @@ public class WeekList {
         this.sunList = sunList;
     }
 
-    public ObservableList<Text> getMonList() {
+    public ObservableList<WeekEntry> getMonList() {
         return monList;
     }
 
-    public ObservableList<Text> getTueList() {
+    public ObservableList<WeekEntry> getTueList() {
         return tueList;
     }
 
-    public ObservableList<Text> getWedList() {
+    public ObservableList<WeekEntry> getWedList() {
         return wedList;
     }
 
-    public ObservableList<Text> getThuList() {
+    public ObservableList<WeekEntry> getThuList() {
         return thuList;
     }
 
-    public ObservableList<Text> getFriList() {
+    public ObservableList<WeekEntry> getFriList() {
         return friList;
     }
 
-    public ObservableList<Text> getSatList() {
+    public ObservableList<WeekEntry> getSatList() {
         return satList;
     }
 
-    public ObservableList<Text> getSunList() {
+    public ObservableList<WeekEntry> getSunList() {
         return sunList;
     }
-}
 
+    /**
+     * This method gets the list of events shown for the given date.
+     * @return The list of events on that date, or null if the date is not in this week
+     */
+    public ObservableList<WeekEntry> getDayList(LocalDate date) {
+        if (firstDate == null) {
+            return null;
+        }
+        long day = ChronoUnit.DAYS.between(firstDate, date);
+        if (day < 0 || day >= DAYS_PER_WEEK) {
+            return null;
+        }
+        switch (date.getDayOfWeek()) {
+        case MONDAY:
+            return monList;
+        case TUESDAY:
+            return tueList;
+        case WEDNESDAY:
+            return wedList;
+        case THURSDAY:
+            return thuList;
+        case FRIDAY:
+            return friList;
+        case SATURDAY:
+            return satList;
+        default:
+            return sunList;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package parser;
 
+import commons.DateTimeCodec;
 import commons.DukeConstants;
 import dukeexceptions.DukeInvalidDateTimeException;
 import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.Date;
 
 /**
@@ -27,15 +31,15 @@ public class DateTimeParser {
         weekDate = dateStringSplit[0];
         String dateOfTask = dateTimeStringSplit[0].trim();
         weekDate = WeekFormatParse.acadWeekToString(weekDate, dateOfTask);
-        Date date = DukeConstants.EVENT_DATE_INPUT_FORMAT.parse(weekDate.trim());
+        LocalDate date = DateTimeCodec.parseDate(weekDate.trim());
         timeStringSplit = dateTimeStringSplit[1].split(DukeConstants.EVENT_TIME_SPLIT_KEYWORD);
         String startTimeOfTask = timeStringSplit[0].trim();
-        Date startTime = DukeConstants.EVENT_TIME_INPUT_FORMAT.parse(startTimeOfTask);
+        LocalTime startTime = DateTimeCodec.parseTime(startTimeOfTask);
         String endTimeOfTask = timeStringSplit[1].trim();
-        Date endTime = DukeConstants.EVENT_TIME_INPUT_FORMAT.parse(endTimeOfTask);
-        String dateString = DukeConstants.DAY_DATE_FORMAT.format(date);
-        String startTimeString = DukeConstants.TWELVE_HOUR_TIME_FORMAT.format(startTime);
-        String endTimeString = DukeConstants.TWELVE_HOUR_TIME_FORMAT.format(endTime);
+        LocalTime endTime = DateTimeCodec.parseTime(endTimeOfTask);
+        String dateString = DateTimeCodec.formatDayDate(date);
+        String startTimeString = DateTimeCodec.formatTwelveHourTime(startTime);
+        String endTimeString = DateTimeCodec.formatTwelveHourTime(endTime);
         String[] out = {dateString,startTimeString,endTimeString};
         return out;
     }
@@ -58,9 +62,9 @@ public class DateTimeParser {
         weekDate = WeekFormatParse.acadWeekToString(weekDate,commandSplit.trim());
         String time = input.substring(dateOfTask).trim();
         weekDate = weekDate.trim() + DukeConstants.BLANK_SPACE + time;
-        Date date = DukeConstants.DEADLINE_INPUT_FORMAT.parse(weekDate);
-        String dateString = DukeConstants.DAY_DATE_FORMAT.format(date);
-        String timeString = DukeConstants.TWELVE_HOUR_TIME_FORMAT.format(date);
+        LocalDateTime date = DateTimeCodec.parseDateTime(weekDate);
+        String dateString = DateTimeCodec.formatDayDate(date.toLocalDate());
+        String timeString = DateTimeCodec.formatTwelveHourTime(date.toLocalTime());
         String[] out = {dateString, timeString};
         return out;
     }
@@ -83,17 +87,17 @@ public class DateTimeParser {
         String endWeekDate = endDateStringSplit[0].trim();
         String endDateOfTask = dateStringSplit[1].trim();
         endWeekDate = WeekFormatParse.acadWeekToString(endWeekDate, endDateOfTask);
-        Date startDate = DukeConstants.EVENT_DATE_INPUT_FORMAT.parse(startWeekDate);
-        Date endDate = DukeConstants.EVENT_DATE_INPUT_FORMAT.parse(endWeekDate);
-        String startDateString = DukeConstants.DAY_DATE_FORMAT.format(startDate);
-        String endDateString = DukeConstants.DAY_DATE_FORMAT.format(endDate);
+        LocalDate startDate = DateTimeCodec.parseDate(startWeekDate);
+        LocalDate endDate = DateTimeCodec.parseDate(endWeekDate);
+        String startDateString = DateTimeCodec.formatDayDate(startDate);
+        String endDateString = DateTimeCodec.formatDayDate(endDate);
         timeStringSplit = dateTimeStringSplit[1].split(DukeConstants.EVENT_TIME_SPLIT_KEYWORD);
         String startTimeOfTask = timeStringSplit[0].trim();
-        Date startTime = DukeConstants.EVENT_TIME_INPUT_FORMAT.parse(startTimeOfTask);
+        LocalTime startTime = DateTimeCodec.parseTime(startTimeOfTask);
         String endTimeOfTask = timeStringSplit[1].trim();
-        Date endTime = DukeConstants.EVENT_TIME_INPUT_FORMAT.parse(endTimeOfTask);
-        String startTimeString = DukeConstants.TWELVE_HOUR_TIME_FORMAT.format(startTime);
-        String endTimeString = DukeConstants.TWELVE_HOUR_TIME_FORMAT.format(endTime);
+        LocalTime endTime = DateTimeCodec.parseTime(endTimeOfTask);
+        String startTimeString = DateTimeCodec.formatTwelveHourTime(startTime);
+        String endTimeString = DateTimeCodec.formatTwelveHourTime(endTime);
         String[] out = {startDateString, endDateString, startTimeString, endTimeString};
         return out;
     }
@@ -121,18 +125,18 @@ public class DateTimeParser {
         reminderDate = WeekFormatParse.acadWeekToString(weekDate, reminderDate);
         time = dateTimeStringSplit[1].substring(reminderDateLength);
         reminderDate = reminderDate + time;
-        Date dateOfTask = DukeConstants.DEADLINE_INPUT_FORMAT.parse(deadlineDate);
-        String dateString = DukeConstants.DAY_DATE_FORMAT.format(dateOfTask);
-        String timeString = DukeConstants.TWELVE_HOUR_TIME_FORMAT.format(dateOfTask);
+        LocalDateTime dateOfTask = DateTimeCodec.parseDateTime(deadlineDate);
+        String dateString = DateTimeCodec.formatDayDate(dateOfTask.toLocalDate());
+        String timeString = DateTimeCodec.formatTwelveHourTime(dateOfTask.toLocalTime());
         String[] dateTime = {dateString, timeString, reminderDate};
         return dateTime;
     }
 
     public static Date deadlineInputStringToDate(String date) throws ParseException {
-        return DukeConstants.DEADLINE_INPUT_FORMAT.parse(date);
+        return DateTimeCodec.toDate(DateTimeCodec.parseDateTime(date));
     }
 
     public static Date deadlineTaskStringToDate(String date) throws ParseException {
-        return DukeConstants.DEADLINE_DATE_FORMAT.parse(date);
+        return DateTimeCodec.toDate(DateTimeCodec.parseDayDateTime(date));
     }
 }
@@ -0,0 +1,35 @@
+package parser;
+
+import commands.Command;
+import commands.ImportCommand;
+import commons.DukeConstants;
+import dukeexceptions.DukeInvalidFormatException;
+
+/**
+ * This class parses the full command that calls for ImportParse.
+ */
+public class ImportParse extends Parse {
+    private final String fullCommand;
+
+    /**
+     * Creates ImportParse object.
+     * @param fullCommand The entire command that calls for ImportParse.
+     */
+    public ImportParse(String fullCommand) {
+        this.fullCommand = fullCommand;
+    }
+
+    /**
+     * This executes the data processing for ImportParse.
+     * @return Command which represents the parsed ImportCommand
+     * @throws DukeInvalidFormatException Returned if no file is given
+     */
+    @Override
+    public Command parse() throws DukeInvalidFormatException {
+        String filePath = fullCommand.trim().replaceFirst(DukeConstants.IMPORT_HEADER, DukeConstants.NO_FIELD).trim();
+        if (filePath.isEmpty()) {
+            throw new DukeInvalidFormatException(DukeConstants.IMPORT_FORMAT);
+        }
+        return new ImportCommand(filePath);
+    }
+}
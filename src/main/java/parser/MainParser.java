@@ -4,6 +4,7 @@ import commands.ByeCommand;
 import commands.Command;
 import commands.HelpCommand;
 import commands.RetrievePreviousCommand;
+import commands.ShowStatsCommand;
 import commons.DukeConstants;
 import dukeexceptions.DukeInvalidCommandException;
 
@@ -44,6 +45,9 @@ public class MainParser {
         case DukeConstants.REMOVE_RECUR_BIWEEKLY_HEADER:
             return new RecurParse(fullCommand).parse();
 
+        case DukeConstants.IMPORT_HEADER:
+            return new ImportParse(fullCommand).parse();
+
         case DukeConstants.REMIND_CHECK_HEADER:
         case DukeConstants.REMIND_SET_HEADER:
         case DukeConstants.REMOVE_REMIND_HEADER:
@@ -71,6 +75,9 @@ public class MainParser {
         case DukeConstants.SHOW_WEEK_HEADER:
             return new WeekParse(fullCommand).parse();
 
+        case DukeConstants.SHOW_STATS_HEADER:
+            return new ShowStatsCommand();
+
         case DukeConstants.BYE_HEADER:
             return new ByeCommand();
 
@@ -1,13 +1,24 @@
 package tasks;
 
+import commons.DateTimeCodec;
 import commons.DukeConstants;
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.LocalTime;
 
 /**
  * Abstract class Assignment with methods representing all the Command subclasses to be
  * carried out when an input is entered by the user.
  */
 public abstract class Assignment {
+    public static final long UNKNOWN_TIME = Long.MIN_VALUE;
+    private static final int UNKNOWN_MINUTE_OF_DAY = -1;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
     private final String description;
+    private final long epochDay;
+    private final int startMinuteOfDay;
+    private final int endMinuteOfDay;
     private boolean isDone;
     private boolean isReminder;
     private String remindTime;
@@ -17,11 +28,17 @@ public abstract class Assignment {
     private static final String DEADLINE_KEYWORD = "by ";
 
     /**
-     * Creates Task object.
+     * Creates Task object. The date and times are read once here so that they can be compared as numbers.
      * @param description The description of the task
+     * @param date The date of the task, such as "Wed 13/11/2019"
+     * @param startTime The start time of the task, such as "11:00 AM"
+     * @param endTime The end time of the task, which is the same as the start time for deadlines
      */
-    public Assignment(String description) {
+    public Assignment(String description, String date, String startTime, String endTime) {
         this.description = description;
+        this.epochDay = readEpochDay(date);
+        this.startMinuteOfDay = readMinuteOfDay(startTime);
+        this.endMinuteOfDay = readMinuteOfDay(endTime);
         this.isDone = false;
         this.isReminder = false;
         this.remindTime = DukeConstants.NO_FIELD;
@@ -40,6 +57,96 @@ public abstract class Assignment {
 
     public abstract String getEndTime();
 
+    /**
+     * Retrieves the date of the task in days since the epoch.
+     * @return The day, or UNKNOWN_TIME if the date of the task could not be read
+     */
+    public long getEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Retrieves when the task starts in minutes since the epoch, taking its date and time as UTC.
+     * @return The minute, or UNKNOWN_TIME if the date or start time of the task could not be read
+     */
+    public long getStartMinute() {
+        return toEpochMinute(startMinuteOfDay);
+    }
+
+    /**
+     * Retrieves when the task ends, or is due for deadlines, in minutes since the epoch,
+     * taking its date and time as UTC.
+     * @return The minute, or UNKNOWN_TIME if the date or end time of the task could not be read
+     */
+    public long getEndMinute() {
+        return toEpochMinute(endMinuteOfDay);
+    }
+
+    /**
+     * Writes the date of the task in the standard form, or null if it could not be read.
+     */
+    String formatDate() {
+        return epochDay == UNKNOWN_TIME ? null : DateTimeCodec.formatDayDate(LocalDate.ofEpochDay(epochDay));
+    }
+
+    /**
+     * Writes the start time of the task in the standard form, or null if it could not be read.
+     */
+    String formatStartTime() {
+        return formatMinuteOfDay(startMinuteOfDay);
+    }
+
+    /**
+     * Writes the end time of the task in the standard form, or null if it could not be read.
+     */
+    String formatEndTime() {
+        return formatMinuteOfDay(endMinuteOfDay);
+    }
+
+    /**
+     * Checks whether the date is already in the standard form, so that it can be written again from the day alone.
+     */
+    static boolean isStandardDate(String date) {
+        long day = readEpochDay(date);
+        return day != UNKNOWN_TIME && date.equals(DateTimeCodec.formatDayDate(LocalDate.ofEpochDay(day)));
+    }
+
+    /**
+     * Checks whether the time is already in the standard form, so that it can be written again from the minute alone.
+     */
+    static boolean isStandardTime(String time) {
+        int minuteOfDay = readMinuteOfDay(time);
+        return minuteOfDay != UNKNOWN_MINUTE_OF_DAY && time.equals(formatMinuteOfDay(minuteOfDay));
+    }
+
+    private long toEpochMinute(int minuteOfDay) {
+        if (epochDay == UNKNOWN_TIME || minuteOfDay == UNKNOWN_MINUTE_OF_DAY) {
+            return UNKNOWN_TIME;
+        }
+        return epochDay * MINUTES_PER_DAY + minuteOfDay;
+    }
+
+    private static String formatMinuteOfDay(int minuteOfDay) {
+        return minuteOfDay == UNKNOWN_MINUTE_OF_DAY ? null : DateTimeCodec.formatTwelveHourTime(minuteOfDay);
+    }
+
+    private static long readEpochDay(String date) {
+        try {
+            return DateTimeCodec.parseDayDate(date).toEpochDay();
+        } catch (ParseException e) {
+            return UNKNOWN_TIME;
+        }
+    }
+
+    private static int readMinuteOfDay(String time) {
+        try {
+            LocalTime parsed = DateTimeCodec.parseTwelveHourTime(time);
+            return parsed.getHour() * MINUTES_PER_HOUR + parsed.getMinute();
+        } catch (ParseException e) {
+            return UNKNOWN_MINUTE_OF_DAY;
+        }
+    }
+
     /**
      * Checks whether the task is completed.
      * @return This returns a tick or cross depending on the boolean value of isDone
@@ -13,14 +13,16 @@ public class Deadline extends Assignment {
     private static final String DEADLINE_STRING_CLOSER = ")";
 
     /**
-     * Creates a Deadline object.
+     * Creates a Deadline object. The date and time are only kept as text if they are not in the standard format,
+     * otherwise they are shown from the day and minutes held by Assignment.
      * @param description Description of a task
      * @param by Date of when a task should be done
+     * @param time Time of when a task should be done
      */
     public Deadline(String description, String by, String time) {
-        super(description);
-        this.by = by;
-        this.time = time;
+        super(description, by, time, time);
+        this.by = isStandardDate(by) ? null : by;
+        this.time = isStandardTime(time) ? null : time;
     }
 
     /**
@@ -47,7 +49,7 @@ public class Deadline extends Assignment {
      */
     @Override
     public String getDateTime() {
-        return by + DukeConstants.BLANK_SPACE + time;
+        return getDate() + DukeConstants.BLANK_SPACE + getTime();
     }
 
     /**
@@ -55,7 +57,7 @@ public class Deadline extends Assignment {
      */
     @Override
     public String getDate() {
-        return by;
+        return by == null ? formatDate() : by;
     }
 
     /**
@@ -63,7 +65,7 @@ public class Deadline extends Assignment {
      */
     @Override
     public String getTime() {
-        return time;
+        return time == null ? formatStartTime() : time;
     }
 
     /**
@@ -71,7 +73,7 @@ public class Deadline extends Assignment {
      */
     @Override
     public String getStartTime() {
-        return time;
+        return getTime();
     }
 
     /**
@@ -79,6 +81,6 @@ public class Deadline extends Assignment {
      */
     @Override
     public String getEndTime() {
-        return time;
+        return getTime();
     }
 }
\ No newline at end of file
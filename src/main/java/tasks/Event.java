@@ -19,17 +19,18 @@ public class Event extends Assignment {
     private static final String END_DELIMITER = "End: ";
 
     /**
-     * Creates an Event object.
+     * Creates an Event object. The date and times are only kept as text if they are not in the standard format,
+     * otherwise they are shown from the day and minutes held by Assignment.
      * @param description Description of a task
      * @param by Date of when a task should be done
      * @param start Start time
      * @param end End time
      */
     public Event(String description, String by, String start, String end) {
-        super(description);
-        this.by = by;
-        this.start = start;
-        this.end = end;
+        super(description, by, start, end);
+        this.by = isStandardDate(by) ? null : by;
+        this.start = isStandardTime(start) ? null : start;
+        this.end = isStandardTime(end) ? null : end;
     }
 
     /**
@@ -48,9 +49,9 @@ public class Event extends Assignment {
         return super.getModCode() + DukeConstants.BLANK_SPACE
                 + getType() + super.toString()
                 + START_OF_DATE_DELIMITER
-                + by + START_OF_TIME_DELIMITER
-                + start + TIME_DELIMITER
-                + end + END_OF_DATE_TIME_DELIMITER;
+                + getDate() + START_OF_TIME_DELIMITER
+                + getStartTime() + TIME_DELIMITER
+                + getEndTime() + END_OF_DATE_TIME_DELIMITER;
     }
 
     /**
@@ -58,7 +59,7 @@ public class Event extends Assignment {
      */
     @Override
     public String getDateTime() {
-        return by + DukeConstants.BLANK_SPACE + start + TIME_TO_TIME + end;
+        return getDate() + DukeConstants.BLANK_SPACE + getStartTime() + TIME_TO_TIME + getEndTime();
     }
 
     /**
@@ -66,7 +67,7 @@ public class Event extends Assignment {
      */
     @Override
     public String toShow() {
-        return START_DELIMITER + start + "\n" + END_DELIMITER + end + "\n";
+        return START_DELIMITER + getStartTime() + "\n" + END_DELIMITER + getEndTime() + "\n";
     }
 
     /**
@@ -74,7 +75,7 @@ public class Event extends Assignment {
      */
     @Override
     public String getDate() {
-        return by;
+        return by == null ? formatDate() : by;
     }
 
     /**
@@ -82,7 +83,7 @@ public class Event extends Assignment {
      */
     @Override
     public String getTime() {
-        return start + TIME_TO_TIME + end;
+        return getStartTime() + TIME_TO_TIME + getEndTime();
     }
 
     /**
@@ -90,7 +91,7 @@ public class Event extends Assignment {
      */
     @Override
     public String getStartTime() {
-        return start;
+        return start == null ? formatStartTime() : start;
     }
 
     /**
@@ -98,7 +99,7 @@ public class Event extends Assignment {
      */
     @Override
     public String getEndTime() {
-        return end;
+        return end == null ? formatEndTime() : end;
     }
 
 
@@ -0,0 +1,135 @@
+package tasks;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Finds free blocks of time between events with a single sweep over their start and end minutes.
+ * Free blocks only fall inside the hours of a day given, and leave a short break after the event before them.
+ */
+public class FreeTimeFinder {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int HALF_HOUR = 30;
+    private static final int BREAK_ON_HALF_HOUR = 15;
+    private static final int MINUTES_BETWEEN_OPEN_OPTIONS = 60;
+    private final int dayStartMinute;
+    private final int dayEndMinute;
+    private final int options;
+
+    /**
+     * Creates a FreeTimeFinder object.
+     * @param dayStartMinute The earliest a free block may start, in minutes after midnight
+     * @param dayEndMinute The time every free block must end before, in minutes after midnight
+     * @param options The number of free blocks to find
+     */
+    public FreeTimeFinder(int dayStartMinute, int dayEndMinute, int options) {
+        this.dayStartMinute = dayStartMinute;
+        this.dayEndMinute = dayEndMinute;
+        this.options = options;
+    }
+
+    /**
+     * This method finds the earliest free blocks of the given length from the given minute onwards.
+     * Each gap between events offers its earliest block on every day it covers,
+     * and after the last event blocks are offered an hour apart.
+     * @param events The TaskList object for events
+     * @param fromMinute The minute to search from, in minutes since the epoch with local time read as UTC
+     * @param durationMinutes The length of the free blocks in minutes
+     * @return The start minute of each free block found, earliest first
+     */
+    public long[] find(TaskList events, long fromMinute, int durationMinutes) {
+        if (dayStartMinute + durationMinutes >= dayEndMinute || options <= 0) {
+            return new long[0];
+        }
+        LocalDate fromDay = LocalDate.ofEpochDay(Math.floorDiv(fromMinute, MINUTES_PER_DAY));
+        int count = 0;
+        for (List<Assignment> tasksOnDate : events.tasksBetween(fromDay, LocalDate.MAX).values()) {
+            count += tasksOnDate.size();
+        }
+        long[] starts = new long[count];
+        long[] ends = new long[count];
+        int size = 0;
+        for (List<Assignment> tasksOnDate : events.tasksBetween(fromDay, LocalDate.MAX).values()) {
+            for (Assignment task : tasksOnDate) {
+                long start = task.getStartMinute();
+                long end = task.getEndMinute();
+                if (start != Assignment.UNKNOWN_TIME && end != Assignment.UNKNOWN_TIME) {
+                    starts[size] = start;
+                    ends[size] = Math.max(start, end);
+                    size++;
+                }
+            }
+        }
+        Arrays.sort(starts, 0, size);
+        Arrays.sort(ends, 0, size);
+        return sweep(starts, ends, size, fromMinute, durationMinutes);
+    }
+
+    /**
+     * Walks the sorted start and end minutes together, so that overlapping and touching events
+     * merge into one busy block without being paired up, and offers blocks in each gap between busy blocks.
+     */
+    private long[] sweep(long[] starts, long[] ends, int size, long fromMinute, int durationMinutes) {
+        long[] found = new long[options];
+        int foundCount = 0;
+        long free = afterBreak(fromMinute);
+        int active = 0;
+        int nextStart = 0;
+        int nextEnd = 0;
+        while (nextEnd < size && foundCount < options) {
+            if (nextStart < size && starts[nextStart] <= ends[nextEnd]) {
+                if (active == 0) {
+                    foundCount = offerBlocks(found, foundCount, free, starts[nextStart], durationMinutes);
+                }
+                active++;
+                nextStart++;
+            } else {
+                active--;
+                if (active == 0) {
+                    free = Math.max(free, afterBreak(ends[nextEnd]));
+                }
+                nextEnd++;
+            }
+        }
+        if (foundCount < options) {
+            foundCount = offerBlocks(found, foundCount, free, Long.MAX_VALUE, durationMinutes);
+        }
+        return Arrays.copyOf(found, foundCount);
+    }
+
+    /**
+     * Offers blocks that start no earlier than free and end before busy.
+     * @return The number of blocks found so far
+     */
+    private int offerBlocks(long[] found, int foundCount, long free, long busy, int durationMinutes) {
+        boolean isOpen = busy == Long.MAX_VALUE;
+        long start = free;
+        while (foundCount < options) {
+            long day = Math.floorDiv(start, MINUTES_PER_DAY);
+            long dayStart = day * MINUTES_PER_DAY + dayStartMinute;
+            if (start < dayStart) {
+                start = dayStart;
+            }
+            if (start + durationMinutes >= day * MINUTES_PER_DAY + dayEndMinute) {
+                start = dayStart + MINUTES_PER_DAY;
+                continue;
+            }
+            if (start + durationMinutes >= busy) {
+                break;
+            }
+            found[foundCount++] = start;
+            start = isOpen ? start + MINUTES_BETWEEN_OPEN_OPTIONS : dayStart + MINUTES_PER_DAY;
+        }
+        return foundCount;
+    }
+
+    /**
+     * Finds when a free block may start after something ending at the given minute:
+     * a quarter of an hour later if it ends on the hour or half hour, otherwise the next hour or half hour.
+     */
+    private static long afterBreak(long minute) {
+        long pastHalfHour = Math.floorMod(minute, HALF_HOUR);
+        return pastHalfHour == 0 ? minute + BREAK_ON_HALF_HOUR : minute - pastHalfHour + HALF_HOUR;
+    }
+}
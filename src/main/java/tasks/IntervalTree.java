@@ -0,0 +1,205 @@
+package tasks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Balanced binary search tree of tasks keyed on their start and end minutes.
+ * Every node also records the latest end minute in its subtree, so all the tasks overlapping
+ * a given interval can be found in O(log n + k) time.
+ */
+class IntervalTree {
+    private Node root;
+    private int size;
+
+    /**
+     * Adds a task occupying the closed interval from start to end.
+     */
+    void insert(long start, long end, Assignment task) {
+        root = insertNode(root, start, end, task);
+        size++;
+    }
+
+    /**
+     * Removes the given task, which must have been added with the same start and end.
+     * @return true if the task was found and removed
+     */
+    boolean remove(long start, long end, Assignment task) {
+        int oldSize = size;
+        root = removeNode(root, start, end, task);
+        return size < oldSize;
+    }
+
+    /**
+     * Checks whether the tree holds no tasks.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Collects every task whose interval shares at least one minute with the closed interval from start to end.
+     * Tasks are collected in order of their start minute.
+     */
+    void collectOverlapping(long start, long end, List<Assignment> result) {
+        collectOverlappingIn(root, start, end, result);
+    }
+
+    private void collectOverlappingIn(Node node, long start, long end, List<Assignment> result) {
+        if (node == null || node.maxEnd < start) {
+            return;
+        }
+        collectOverlappingIn(node.left, start, end, result);
+        if (node.start > end) {
+            return;
+        }
+        if (node.end >= start) {
+            result.addAll(node.tasks);
+        }
+        collectOverlappingIn(node.right, start, end, result);
+    }
+
+    private Node insertNode(Node node, long start, long end, Assignment task) {
+        if (node == null) {
+            return new Node(start, end, task);
+        }
+        int order = compare(start, end, node);
+        if (order == 0) {
+            node.tasks.add(task);
+            return node;
+        } else if (order < 0) {
+            node.left = insertNode(node.left, start, end, task);
+        } else {
+            node.right = insertNode(node.right, start, end, task);
+        }
+        return rebalance(node);
+    }
+
+    private Node removeNode(Node node, long start, long end, Assignment task) {
+        if (node == null) {
+            return null;
+        }
+        int order = compare(start, end, node);
+        if (order < 0) {
+            node.left = removeNode(node.left, start, end, task);
+        } else if (order > 0) {
+            node.right = removeNode(node.right, start, end, task);
+        } else {
+            if (!removeTask(node.tasks, task)) {
+                return node;
+            }
+            size--;
+            if (!node.tasks.isEmpty()) {
+                return node;
+            }
+            if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.right = removeSmallest(node.right);
+            successor.left = node.left;
+            successor.right = node.right;
+            return rebalance(successor);
+        }
+        return rebalance(node);
+    }
+
+    private Node removeSmallest(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeSmallest(node.left);
+        return rebalance(node);
+    }
+
+    private static boolean removeTask(ArrayList<Assignment> tasks, Assignment task) {
+        for (int i = 0; i < tasks.size(); i++) {
+            if (tasks.get(i) == task) {
+                tasks.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int compare(long start, long end, Node node) {
+        if (start != node.start) {
+            return start < node.start ? -1 : 1;
+        }
+        return Long.compare(end, node.end);
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static final class Node {
+        private final long start;
+        private final long end;
+        private final ArrayList<Assignment> tasks = new ArrayList<>();
+        private long maxEnd;
+        private int height;
+        private Node left;
+        private Node right;
+
+        private Node(long start, long end, Assignment task) {
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+            this.height = 1;
+            this.tasks.add(task);
+        }
+    }
+}
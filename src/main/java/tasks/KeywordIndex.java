@@ -0,0 +1,128 @@
+package tasks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Inverted index from the words in the storage string of each task to the tasks containing them.
+ * A keyword may appear anywhere in a word, so every suffix of each distinct word is kept in sorted order
+ * and a keyword is looked up as a prefix of those suffixes. As tasks share a few hundred dates, times and words,
+ * the suffixes grow with the number of distinct words rather than with the number of tasks.
+ */
+class KeywordIndex {
+    private static final String WORD_SEPARATOR = "\\s+";
+    private static final char LAST_CHAR = Character.MAX_VALUE;
+
+    private final IdentityHashMap<Assignment, String> indexedTexts = new IdentityHashMap<>();
+    private final HashMap<String, Set<Assignment>> postings = new HashMap<>();
+    private final TreeMap<String, Set<String>> suffixes = new TreeMap<>();
+
+    /**
+     * Indexes the task under the words in its storage string.
+     */
+    void add(Assignment task) {
+        String text = task.toString().toLowerCase();
+        indexedTexts.put(task, text);
+        for (String word : words(text)) {
+            postings.computeIfAbsent(word, newWord -> {
+                for (int i = 0; i < newWord.length(); i++) {
+                    suffixes.computeIfAbsent(newWord.substring(i), suffix -> new HashSet<>()).add(newWord);
+                }
+                return Collections.newSetFromMap(new IdentityHashMap<>());
+            }).add(task);
+        }
+    }
+
+    /**
+     * Removes the task from the index, dropping any words no other task has.
+     */
+    void remove(Assignment task) {
+        String text = indexedTexts.remove(task);
+        if (text == null) {
+            return;
+        }
+        for (String word : words(text)) {
+            Set<Assignment> tasksWithWord = postings.get(word);
+            if (tasksWithWord == null || !tasksWithWord.remove(task) || !tasksWithWord.isEmpty()) {
+                continue;
+            }
+            postings.remove(word);
+            for (int i = 0; i < word.length(); i++) {
+                String suffix = word.substring(i);
+                Set<String> wordsWithSuffix = suffixes.get(suffix);
+                wordsWithSuffix.remove(word);
+                if (wordsWithSuffix.isEmpty()) {
+                    suffixes.remove(suffix);
+                }
+            }
+        }
+    }
+
+    /**
+     * Indexes the task again after its status or reminder has changed its storage string.
+     */
+    void update(Assignment task) {
+        remove(task);
+        add(task);
+    }
+
+    /**
+     * Finds the tasks whose storage string contains the keyword, ignoring case.
+     * Each word of the keyword narrows down the tasks to those with a word containing it,
+     * and only those are checked against the whole keyword.
+     */
+    List<Assignment> find(String keyword) {
+        String lowerCaseKeyword = keyword.toLowerCase();
+        Set<Assignment> candidates = null;
+        for (String part : words(lowerCaseKeyword)) {
+            Set<Assignment> tasksWithPart = tasksWithWordContaining(part);
+            if (candidates == null || tasksWithPart.size() < candidates.size()) {
+                if (candidates != null) {
+                    tasksWithPart.retainAll(candidates);
+                }
+                candidates = tasksWithPart;
+            } else {
+                candidates.retainAll(tasksWithPart);
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+        List<Assignment> found = new ArrayList<>();
+        if (candidates == null) {
+            return found;
+        }
+        for (Assignment task : candidates) {
+            if (indexedTexts.get(task).contains(lowerCaseKeyword)) {
+                found.add(task);
+            }
+        }
+        return found;
+    }
+
+    private Set<Assignment> tasksWithWordContaining(String part) {
+        Set<Assignment> tasks = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Set<String> wordsWithSuffix : suffixes.subMap(part, true, part + LAST_CHAR, true).values()) {
+            for (String word : wordsWithSuffix) {
+                tasks.addAll(postings.get(word));
+            }
+        }
+        return tasks;
+    }
+
+    private static Set<String> words(String text) {
+        Set<String> words = new HashSet<>();
+        for (String word : text.trim().split(WORD_SEPARATOR)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,11 @@
+package tasks;
+
+/**
+ * Represents the kinds of change to a task in a TaskList that are reported to a TaskListListener.
+ */
+public enum TaskChange {
+    ADDED,
+    REMOVED,
+    MARKED_DONE,
+    REMINDER_CHANGED
+}
@@ -1,8 +1,16 @@
 package tasks;
 
 import commons.DukeConstants;
+import java.text.ParseException;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * To keep track of the list of task input by user.
@@ -11,6 +19,11 @@ public class TaskList {
 
     private ArrayList<Assignment> list;
     private HashMap<String, HashMap<String, ArrayList<Assignment>>> map;
+    private HashMap<Long, IntervalTree> intervalIndex;
+    private TreeMap<LocalDate, List<Assignment>> dateIndex;
+    private TaskStatistics statistics;
+    private KeywordIndex keywordIndex;
+    private final List<TaskListListener> listeners = new CopyOnWriteArrayList<>();
 
     /**
      * Creates a TaskList object.
@@ -18,6 +31,10 @@ public class TaskList {
     public TaskList() {
         this.list = new ArrayList<>();
         this.map = new HashMap<>();
+        this.intervalIndex = new HashMap<>();
+        this.dateIndex = new TreeMap<>();
+        this.statistics = new TaskStatistics();
+        this.keywordIndex = new KeywordIndex();
     }
 
     /**
@@ -36,6 +53,27 @@ public class TaskList {
         return this.map;
     }
 
+    /**
+     * Retrieves the live counts of the tasks in this list.
+     */
+    public TaskStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Registers a listener to be told about every change to the tasks in this list.
+     */
+    public void addListener(TaskListListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Stops telling the listener about changes to the tasks in this list.
+     */
+    public void removeListener(TaskListListener listener) {
+        listeners.remove(listener);
+    }
+
     /**
      * This method adds task into the arrayList list.
      */
@@ -58,15 +96,25 @@ public class TaskList {
                 if (task.getIsReminder() && !existingTask.getIsReminder()) {
                     existingTask.setRemindTime(task.getRemindTime());
                     existingTask.setReminder(true);
+                    keywordIndex.update(existingTask);
+                    notifyListeners(TaskChange.REMINDER_CHANGED, existingTask);
                 }
                 if (task.getStatus() && !existingTask.getStatus()) {
                     existingTask.setDone(true);
+                    statistics.recordDone(existingTask, findDueMinute(existingTask));
+                    keywordIndex.update(existingTask);
+                    notifyListeners(TaskChange.MARKED_DONE, existingTask);
                 }
                 return;
             }
         }
         this.map.get(task.getModCode()).get(task.getDate()).add(task);
         this.list.add(task);
+        addToIntervalIndex(task);
+        addToDateIndex(task);
+        keywordIndex.add(task);
+        statistics.recordAdded(task, findDueMinute(task));
+        notifyListeners(TaskChange.ADDED, task);
     }
 
     /**
@@ -76,12 +124,18 @@ public class TaskList {
         for (Assignment taskInList : this.map.get(task.getModCode()).get(task.getDate())) {
             if (taskInList.getDateTime().equals(task.getDateTime())) {
                 this.map.get(task.getModCode()).get(task.getDate()).remove(taskInList);
+                this.list.remove(taskInList);
+                removeFromIntervalIndex(taskInList);
+                removeFromDateIndex(taskInList);
+                keywordIndex.remove(taskInList);
+                statistics.recordRemoved(taskInList, findDueMinute(taskInList));
                 if (this.map.get(task.getModCode()).get(task.getDate()).size() == 0) {
                     this.map.get(task.getModCode()).remove(task.getDate());
                     if (this.map.get(task.getModCode()).size() == 0) {
                         this.map.remove(task.getModCode());
                     }
                 }
+                notifyListeners(TaskChange.REMOVED, taskInList);
                 break;
             }
         }
@@ -95,7 +149,12 @@ public class TaskList {
             if (taskInList.getDateTime().equals(task.getDateTime())) {
                 Integer index = this.map.get(task.getModCode()).get(task.getDate()).indexOf(taskInList);
                 Assignment temp = this.map.get(task.getModCode()).get(task.getDate()).get(index);
-                temp.setDone(true);
+                if (!temp.getStatus()) {
+                    temp.setDone(true);
+                    statistics.recordDone(temp, findDueMinute(temp));
+                    keywordIndex.update(temp);
+                    notifyListeners(TaskChange.MARKED_DONE, temp);
+                }
                 this.map.get(task.getModCode()).get(task.getDate()).remove(taskInList);
                 this.map.get(task.getModCode()).get(task.getDate()).add(temp);
                 break;
@@ -107,33 +166,177 @@ public class TaskList {
      * This method finds the size for the taskList.
      */
     public int taskListSize() {
-        int size = 0;
-        for (String modCode : map.keySet()) {
-            for (String date : map.get(modCode).keySet()) {
-                for (Assignment task : map.get(modCode).get(date)) {
-                    size++;
-                }
+        return statistics.getTotal();
+    }
+
+    /**
+     * This method checks whether a task with the same module code and timing is in the map.
+     */
+    public boolean containsTask(Assignment task) {
+        if (!this.map.containsKey(task.getModCode()) || !this.map.get(task.getModCode()).containsKey(task.getDate())) {
+            return false;
+        }
+        for (Assignment taskInList : this.map.get(task.getModCode()).get(task.getDate())) {
+            if (taskInList.getDateTime().equals(task.getDateTime())) {
+                return true;
             }
         }
-        return size;
+        return false;
     }
 
     /**
      * This method sets reminder for a task.
+     * @return the task in the map that was updated, or null if there is no such task
      */
-    public void setReminder(Assignment task, String time, boolean isReminder) {
+    public Assignment setReminder(Assignment task, String time, boolean isReminder) {
+        if (!this.map.containsKey(task.getModCode()) || !this.map.get(task.getModCode()).containsKey(task.getDate())) {
+            return null;
+        }
         for (Assignment taskInList : this.map.get(task.getModCode()).get(task.getDate())) {
             if (taskInList.getDescription().equals(task.getDescription())) {
                 if (isReminder) {
                     taskInList.setRemindTime(time);
                     taskInList.setReminder(true);
-                    break;
                 } else {
                     taskInList.setRemindTime(DukeConstants.NO_FIELD);
                     taskInList.setReminder(false);
-                    break;
                 }
+                keywordIndex.update(taskInList);
+                notifyListeners(TaskChange.REMINDER_CHANGED, taskInList);
+                return taskInList;
             }
         }
+        return null;
+    }
+
+    /**
+     * This method retrieves the tasks on the given date, across all modules.
+     * @param date The date to look up
+     * @return A read-only list of the tasks on that date, in the order they were added
+     */
+    public List<Assignment> tasksOn(LocalDate date) {
+        List<Assignment> tasksOnDate = dateIndex.get(date);
+        return tasksOnDate == null ? Collections.emptyList() : Collections.unmodifiableList(tasksOnDate);
+    }
+
+    /**
+     * This method retrieves the tasks from one date to another, both inclusive, across all modules.
+     * @param from The first date of the range
+     * @param to The last date of the range
+     * @return A read-only view from each date in the range that has tasks to the tasks on it, ordered by date
+     */
+    public NavigableMap<LocalDate, List<Assignment>> tasksBetween(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return Collections.emptyNavigableMap();
+        }
+        return Collections.unmodifiableNavigableMap(dateIndex.subMap(from, true, to, true));
+    }
+
+    /**
+     * This method finds the tasks whose storage string contains the keyword, ignoring case.
+     * @param keyword The keyword to look for, which may be part of a word or span several words
+     * @return The tasks containing the keyword, ordered by their start time
+     */
+    public List<Assignment> findByKeyword(String keyword) {
+        List<Assignment> found = keywordIndex.find(keyword);
+        found.sort(Comparator.comparingLong(Assignment::getStartMinute));
+        return found;
+    }
+
+    /**
+     * This method finds the tasks on the same date whose timing overlaps with the given task.
+     * Tasks that start or end exactly when the given task ends or starts are counted as overlapping.
+     * @param task The task to check
+     * @return The overlapping tasks, ordered by their start time
+     * @throws ParseException if the date or timing of the task is not in the stored format
+     */
+    public ArrayList<Assignment> findConflicts(Assignment task) throws ParseException {
+        ArrayList<Assignment> conflicts = new ArrayList<>();
+        collectConflicts(task, conflicts);
+        return conflicts;
+    }
+
+    /**
+     * This method finds the tasks that overlap with any of the given tasks in one query,
+     * such as the occurrences of a recurring event.
+     * @param tasks The tasks to check
+     * @return The overlapping tasks, grouped by the task they overlap with in the order given
+     * @throws ParseException if the date or timing of any of the tasks is not in the stored format
+     */
+    public ArrayList<Assignment> findConflicts(List<Assignment> tasks) throws ParseException {
+        ArrayList<Assignment> conflicts = new ArrayList<>();
+        for (Assignment task : tasks) {
+            collectConflicts(task, conflicts);
+        }
+        return conflicts;
+    }
+
+    private void collectConflicts(Assignment task, ArrayList<Assignment> conflicts) throws ParseException {
+        long start = task.getStartMinute();
+        long end = task.getEndMinute();
+        if (start == Assignment.UNKNOWN_TIME || end == Assignment.UNKNOWN_TIME) {
+            throw new ParseException(task.getDateTime(), 0);
+        }
+        IntervalTree tasksOnDate = intervalIndex.get(task.getEpochDay());
+        if (tasksOnDate != null) {
+            tasksOnDate.collectOverlapping(start, end, conflicts);
+        }
+    }
+
+    private void notifyListeners(TaskChange change, Assignment task) {
+        for (TaskListListener listener : listeners) {
+            listener.taskChanged(change, task);
+        }
+    }
+
+    /**
+     * Finds when the task is due, which is the end time for events, or null if its timing cannot be read.
+     */
+    private Long findDueMinute(Assignment task) {
+        long due = task.getEndMinute();
+        return due == Assignment.UNKNOWN_TIME ? null : due;
+    }
+
+    private void addToIntervalIndex(Assignment task) {
+        long start = task.getStartMinute();
+        long end = task.getEndMinute();
+        if (start == Assignment.UNKNOWN_TIME || end == Assignment.UNKNOWN_TIME) {
+            return;
+        }
+        intervalIndex.computeIfAbsent(task.getEpochDay(), day -> new IntervalTree()).insert(start, end, task);
+    }
+
+    private void removeFromIntervalIndex(Assignment task) {
+        long start = task.getStartMinute();
+        long end = task.getEndMinute();
+        if (start == Assignment.UNKNOWN_TIME || end == Assignment.UNKNOWN_TIME) {
+            return;
+        }
+        IntervalTree tasksOnDate = intervalIndex.get(task.getEpochDay());
+        if (tasksOnDate != null && tasksOnDate.remove(start, end, task) && tasksOnDate.isEmpty()) {
+            intervalIndex.remove(task.getEpochDay());
+        }
+    }
+
+    private void addToDateIndex(Assignment task) {
+        if (task.getEpochDay() == Assignment.UNKNOWN_TIME) {
+            return;
+        }
+        dateIndex.computeIfAbsent(LocalDate.ofEpochDay(task.getEpochDay()), date -> new ArrayList<>()).add(task);
+    }
+
+    private void removeFromDateIndex(Assignment task) {
+        if (task.getEpochDay() == Assignment.UNKNOWN_TIME) {
+            return;
+        }
+        LocalDate date = LocalDate.ofEpochDay(task.getEpochDay());
+        List<Assignment> tasksOnDate = dateIndex.get(date);
+        if (tasksOnDate == null) {
+            return;
+        }
+        tasksOnDate.removeIf(taskOnDate -> taskOnDate == task);
+        if (tasksOnDate.isEmpty()) {
+            dateIndex.remove(date);
+        }
     }
-}
\ No newline at end of file
+}
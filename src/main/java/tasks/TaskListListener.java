@@ -0,0 +1,13 @@
+package tasks;
+
+/**
+ * Listens for the tasks in a TaskList being added, removed, marked as done or having their reminder changed.
+ */
+public interface TaskListListener {
+    /**
+     * This method is called after a task in the TaskList has changed, on the thread that changed it.
+     * @param change The kind of change made to the task
+     * @param task The task held in the TaskList that was changed
+     */
+    void taskChanged(TaskChange change, Assignment task);
+}
@@ -0,0 +1,154 @@
+package tasks;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Live counts of the tasks in a TaskList, kept up to date as tasks are added, removed and marked as done.
+ * Only the owning TaskList can change the counts, everyone else gets a read-only view.
+ */
+public class TaskStatistics {
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int TOTAL = 0;
+    private static final int DONE = 1;
+    private final HashMap<String, int[]> moduleCounts = new HashMap<>();
+    private final TreeMap<Long, Integer> upcomingDueMinutes = new TreeMap<>();
+    private int total = 0;
+    private int done = 0;
+    private int overdue = 0;
+    private long overdueWatermark = Long.MIN_VALUE;
+
+    /**
+     * Retrieves the number of tasks in the list.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Retrieves the number of tasks in the list that are done.
+     */
+    public int getDone() {
+        return done;
+    }
+
+    /**
+     * Retrieves the module codes that have at least one task in the list.
+     */
+    public Set<String> getModules() {
+        return Collections.unmodifiableSet(moduleCounts.keySet());
+    }
+
+    /**
+     * Retrieves the number of tasks of the given module.
+     */
+    public int getModuleTotal(String modCode) {
+        int[] counts = moduleCounts.get(modCode);
+        return counts == null ? 0 : counts[TOTAL];
+    }
+
+    /**
+     * Retrieves the number of tasks of the given module that are done.
+     */
+    public int getModuleDone(String modCode) {
+        int[] counts = moduleCounts.get(modCode);
+        return counts == null ? 0 : counts[DONE];
+    }
+
+    /**
+     * Retrieves the number of tasks that are not done even though their deadline or end time has passed.
+     */
+    public int getOverdue() {
+        return getOverdue(LocalDateTime.now().toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_MINUTE);
+    }
+
+    /**
+     * This method retrieves the number of tasks that are not done and were due before the given time.
+     * Tasks only ever become overdue as time passes, so they are moved over once instead of being recounted.
+     * @param nowEpochMinute The current time in minutes since the epoch
+     * @return The number of overdue tasks
+     */
+    int getOverdue(long nowEpochMinute) {
+        if (nowEpochMinute > overdueWatermark) {
+            Map<Long, Integer> newlyOverdue = upcomingDueMinutes.headMap(nowEpochMinute, false);
+            for (int count : newlyOverdue.values()) {
+                overdue += count;
+            }
+            newlyOverdue.clear();
+            overdueWatermark = nowEpochMinute;
+        }
+        return overdue;
+    }
+
+    /**
+     * Counts a task that was added to the list.
+     * @param dueMinute When the task is due in minutes since the epoch, or null if it is not known
+     */
+    void recordAdded(Assignment task, Long dueMinute) {
+        total++;
+        int[] counts = moduleCounts.computeIfAbsent(task.getModCode(), modCode -> new int[2]);
+        counts[TOTAL]++;
+        if (task.getStatus()) {
+            counts[DONE]++;
+            done++;
+        } else {
+            addPending(dueMinute);
+        }
+    }
+
+    /**
+     * Stops counting a task that was removed from the list.
+     * @param dueMinute When the task is due in minutes since the epoch, or null if it is not known
+     */
+    void recordRemoved(Assignment task, Long dueMinute) {
+        total--;
+        int[] counts = moduleCounts.get(task.getModCode());
+        counts[TOTAL]--;
+        if (task.getStatus()) {
+            counts[DONE]--;
+            done--;
+        } else {
+            removePending(dueMinute);
+        }
+        if (counts[TOTAL] == 0) {
+            moduleCounts.remove(task.getModCode());
+        }
+    }
+
+    /**
+     * Counts a task in the list that has just been marked as done.
+     * @param dueMinute When the task is due in minutes since the epoch, or null if it is not known
+     */
+    void recordDone(Assignment task, Long dueMinute) {
+        moduleCounts.get(task.getModCode())[DONE]++;
+        done++;
+        removePending(dueMinute);
+    }
+
+    private void addPending(Long dueMinute) {
+        if (dueMinute == null) {
+            return;
+        }
+        if (dueMinute < overdueWatermark) {
+            overdue++;
+        } else {
+            upcomingDueMinutes.merge(dueMinute, 1, Integer::sum);
+        }
+    }
+
+    private void removePending(Long dueMinute) {
+        if (dueMinute == null) {
+            return;
+        }
+        if (dueMinute < overdueWatermark) {
+            overdue--;
+        } else {
+            upcomingDueMinutes.computeIfPresent(dueMinute, (minute, count) -> count == 1 ? null : count - 1);
+        }
+    }
+}
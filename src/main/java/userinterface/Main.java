@@ -5,13 +5,15 @@ import java.io.IOException;
 import java.util.logging.Logger;
 import commons.DukeLogger;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.scene.layout.BorderPane;
 import javafx.stage.Stage;
 
 /**
- * A GUI for Duke using FXML.
+ * A GUI for Duke using FXML. The window is shown while Duke is still loading the tasks,
+ * which are handed to it once they are ready.
  */
 public class Main extends Application {
     private Duke duke = new Duke();
@@ -31,9 +33,10 @@ public class Main extends Application {
             stage.setScene(scene);
             stage.setMinWidth(1000);
             stage.setMinHeight(747);
-            fxmlLoader.<MainWindow>getController().setDuke(duke);
             stage.setTitle("BetterDuke");
             stage.show();
+            MainWindow mainWindow = fxmlLoader.getController();
+            duke.whenLoaded().thenRun(() -> Platform.runLater(() -> mainWindow.setDuke(duke)));
         } catch (IOException e) {
             logger.severe("MainWindow.fxml cannot be found.");
         }
@@ -4,16 +4,19 @@ import commands.RetrievePreviousCommand;
 import commands.ShowPreviousCommand;
 import commands.WeekCommand;
 import commands.UpdateProgressIndicatorCommand;
+import commons.AcademicCalendar;
+import commons.AcademicWeek;
 import commons.DukeConstants;
-import commons.LookupTable;
 import commons.Duke;
 import commons.DukeLogger;
-import commons.Storage;
+import commons.ModCodeChecker;
+import commons.PerformanceMetrics;
+import commons.WeekEntry;
 import commons.WeekList;
-import dukeexceptions.DukeIOException;
 import parser.RetrieveFreeTimesParse;
 import parser.WeekParse;
 import tasks.Assignment;
+import tasks.TaskChange;
 import tasks.TaskList;
 import javafx.animation.PauseTransition;
 import javafx.application.Platform;
@@ -30,6 +33,8 @@ import javafx.scene.control.ListView;
 import javafx.scene.control.TableView;
 import javafx.scene.control.TextField;
 import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.paint.Color;
@@ -45,13 +50,19 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Random;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
-import java.util.Date;
 
 /**
  * Controller for MainWindow. Provides the layout for the other controls.
@@ -64,19 +75,19 @@ public class MainWindow extends BorderPane implements Initializable {
     @FXML
     private HBox progressContainer;
     @FXML
-    private ListView<Text> sunEventView;
+    private ListView<WeekEntry> sunEventView;
     @FXML
-    private ListView<Text> monEventView;
+    private ListView<WeekEntry> monEventView;
     @FXML
-    private ListView<Text> tueEventView;
+    private ListView<WeekEntry> tueEventView;
     @FXML
-    private ListView<Text> wedEventView;
+    private ListView<WeekEntry> wedEventView;
     @FXML
-    private ListView<Text> thuEventView;
+    private ListView<WeekEntry> thuEventView;
     @FXML
-    private ListView<Text> friEventView;
+    private ListView<WeekEntry> friEventView;
     @FXML
-    private ListView<Text> satEventView;
+    private ListView<WeekEntry> satEventView;
     @FXML
     private TableView<DeadlineView> overdueTable;
     @FXML
@@ -91,20 +102,22 @@ public class MainWindow extends BorderPane implements Initializable {
     private TableColumn<DukeResponseView, String> dukeResponseColumn;
 
     private Duke duke;
-    private static Storage storage;
-    private ArrayList<Assignment> events;
-    private ArrayList<Assignment> deadlines;
     private TaskList eventsList;
     private TaskList deadlinesList;
+    private final ObservableList<DeadlineView> deadlineViews = FXCollections.observableArrayList();
+    private final IdentityHashMap<Assignment, DeadlineView> deadlineRows = new IdentityHashMap<>();
+    private LocalDate deadlineTableDate;
+    private boolean isProgressStale;
+    private long listenerRefreshNanos;
+    private final HashMap<String, Pair<Parent, ProgressController>> progressIndicators = new HashMap<>();
     private static final int HOURS = 24;
     private static final int MINUTES = 60;
     private static final int SECONDS = 60;
-    private static final int MILLISECONDS = 1000;
     private static final int TOTAL_NUM_OF_QUOTES = 68;
     public static ArrayList<String> outputList = new ArrayList<>();
     private static WeekList outputWeekList = new WeekList();
     private final Logger logger = DukeLogger.getLogger(MainWindow.class);
-    private static LookupTable lookupTable = LookupTable.getInstance();
+    private static AcademicCalendar academicCalendar = AcademicCalendar.getInstance();
     private static final String START_WEEK_DELIMITER = " ( ";
     private static final String END_WEEK_DELIMITER = " )";
 
@@ -114,20 +127,61 @@ public class MainWindow extends BorderPane implements Initializable {
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         try {
-            events = new ArrayList<>();
-            deadlines = new ArrayList<>();
             setWeek(true, DukeConstants.NO_FIELD);
+            setWeekViewCells();
+            userInput.setDisable(true);
             displayQuoteOfTheDay();
-            retrieveList();
-
             setDeadlineTableContents();
-            setProgressContainer();
-        } catch (NullPointerException | IOException | ParseException e) {
+            userInput.addEventFilter(KeyEvent.KEY_PRESSED, this::handleModCodeCompletion);
+        } catch (NullPointerException e) {
             logger.severe("Unable to initialise main window GUI.");
         }
     }
 
+    /**
+     * This method makes each day of the week view draw only the events in sight.
+     */
+    private void setWeekViewCells() {
+        for (ListView<WeekEntry> dayView : Arrays.asList(monEventView, tueEventView, wedEventView, thuEventView,
+                friEventView, satEventView, sunEventView)) {
+            dayView.setCellFactory(listView -> new WeekEntryCell());
+        }
+    }
+
+    /**
+     * This method completes the mod code being typed when the user presses tab.
+     * The module codes are only looked up here, so that loading them never holds up the first paint of the window.
+     */
+    private void handleModCodeCompletion(KeyEvent event) {
+        if (event.getCode() != KeyCode.TAB) {
+            return;
+        }
+        event.consume();
+        int caret = userInput.getCaretPosition();
+        String beforeCaret = userInput.getText().substring(0, caret);
+        int wordStart = beforeCaret.lastIndexOf(DukeConstants.BLANK_SPACE) + 1;
+        if (wordStart == caret) {
+            return;
+        }
+        String completed = ModCodeChecker.getInstance().completeModCode(beforeCaret.substring(wordStart));
+        if (completed != null) {
+            userInput.replaceText(wordStart, caret, completed);
+        }
+    }
+
+    /**
+     * This method reads the quotes in the background and shows one once the window is up.
+     */
     private void displayQuoteOfTheDay() {
+        CompletableFuture.supplyAsync(this::readQuoteOfTheDay).thenAccept(quote -> {
+            if (quote != null) {
+                Platform.runLater(() -> AlertBox.display("Quote of the day", "Quote of the day !!", quote,
+                        Alert.AlertType.INFORMATION));
+            }
+        });
+    }
+
+    private String readQuoteOfTheDay() {
         try {
             ArrayList<String> listOfQuotes = new ArrayList<>();
             InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream("documents/quotes.txt");
@@ -141,114 +195,182 @@ public class MainWindow extends BorderPane implements Initializable {
             Random random = new Random();
             int result = random.nextInt(TOTAL_NUM_OF_QUOTES);
             firstLine = listOfQuotes.get(result);
-            AlertBox.display("Quote of the day", "Quote of the day !!", firstLine, Alert.AlertType.INFORMATION);
             bufferedReader.close();
             inputStreamReader.close();
             inputStream.close();
+            return firstLine;
         } catch (IOException e) {
             logger.severe("quotes.txt not found. Unable to load quote of the day.");
+            return null;
         }
     }
 
     /**
-     * This method creates the progress indicator for the different modules.
-     * @throws IOException On reading error in the lines of the file
+     * This method shows the progress indicator for the different modules. The indicator of a module is only
+     * loaded when the module first has tasks and removed when it has none left, and is otherwise updated in place.
      */
-    private void setProgressContainer() throws IOException {
-        progressContainer.getChildren().clear();
-
+    private void setProgressContainer() {
         UpdateProgressIndicatorCommand updateProgressIndicatorCommand = new UpdateProgressIndicatorCommand(eventsList,
                 deadlinesList);
-        Pair<HashMap<String, String>, ArrayList<Pair<String, Pair<String, String>>>> wholeData =
-                updateProgressIndicatorCommand.getWholeDate(eventsList, deadlinesList);
-        HashMap<String, String> moduleMap = updateProgressIndicatorCommand.getModuleMap(wholeData);
-
-        HashMap<String, Pair<Integer, Integer>> progressIndicatorValues = updateProgressIndicatorCommand.getValues(
-                moduleMap, wholeData);
+        HashMap<String, Pair<Integer, Integer>> progressIndicatorValues = updateProgressIndicatorCommand.getValues();
+        Iterator<Map.Entry<String, Pair<Parent, ProgressController>>> shownIndicators =
+                progressIndicators.entrySet().iterator();
+        while (shownIndicators.hasNext()) {
+            Map.Entry<String, Pair<Parent, ProgressController>> shownIndicator = shownIndicators.next();
+            if (!progressIndicatorValues.containsKey(shownIndicator.getKey())) {
+                progressContainer.getChildren().remove(shownIndicator.getValue().getKey());
+                shownIndicators.remove();
+            }
+        }
         for (String module : progressIndicatorValues.keySet()) {
-            FXMLLoader fxmlLoad = new FXMLLoader(getClass().getResource("/view/ProgressIndicator.fxml"));
-            Parent loads = null;
-            try {
-                loads = fxmlLoad.load();
-            } catch (IOException e) {
-                logger.severe("ProgressIndicator.fxml not found.");
+            Pair<Parent, ProgressController> indicator = progressIndicators.get(module);
+            if (indicator == null) {
+                indicator = loadProgressIndicator();
+                if (indicator == null) {
+                    continue;
+                }
+                progressIndicators.put(module, indicator);
+                progressContainer.getChildren().add(indicator.getKey());
             }
             int totalNumOfTasks = progressIndicatorValues.get(module).getKey();
             int completedValue = progressIndicatorValues.get(module).getValue();
-            fxmlLoad.<ProgressController>getController().getData(module, totalNumOfTasks, completedValue);
-            progressContainer.getChildren().add(loads);
+            indicator.getValue().getData(module, totalNumOfTasks, completedValue);
+        }
+    }
+
+    /**
+     * Loads a new progress indicator and its controller, or returns null if it cannot be loaded.
+     */
+    private Pair<Parent, ProgressController> loadProgressIndicator() {
+        FXMLLoader fxmlLoad = new FXMLLoader(getClass().getResource("/view/ProgressIndicator.fxml"));
+        try {
+            Parent loads = fxmlLoad.load();
+            return new Pair<>(loads, fxmlLoad.getController());
+        } catch (IOException e) {
+            logger.severe("ProgressIndicator.fxml not found.");
+            return null;
         }
     }
 
     /**
-     * Initialize Duke object in MainWindow controller with Duke object from Main.
+     * Initialize Duke object in MainWindow controller with Duke object from Main once it has loaded,
+     * showing its tasks, listening for changes to them and taking input from the user.
      */
     public void setDuke(Duke d) {
         duke = d;
+        userInput.setDisable(false);
+        eventsList = duke.getEvents();
+        deadlinesList = duke.getDeadlines();
+        eventsList.addListener(this::handleEventChange);
+        deadlinesList.addListener(this::handleDeadlineChange);
+        outputWeekList = new WeekCommand(WeekParse.getWeek(week)).generateWeekList(eventsList);
+        updateListView();
+        setDeadlineTable();
+        setProgressContainer();
     }
 
     /**
-     * Initialize Storage object in MainWindow controller with storage object from Duke.
+     * Redraws the day of the week view that a changed event falls on, if it is in the week shown.
      */
-    public static void setStorage(Storage storageFromDuke) {
-        storage = storageFromDuke;
+    private void handleEventChange(TaskChange change, Assignment task) {
+        if (change == TaskChange.REMINDER_CHANGED) {
+            return;
+        }
+        runOnFxThread(() -> {
+            isProgressStale = true;
+            if (task.getEpochDay() == Assignment.UNKNOWN_TIME) {
+                return;
+            }
+            LocalDate date = LocalDate.ofEpochDay(task.getEpochDay());
+            ObservableList<WeekEntry> dayList = outputWeekList.getDayList(date);
+            if (dayList != null) {
+                dayList.setAll(WeekCommand.showTasksOn(eventsList, date));
+            }
+        });
+    }
+
+    /**
+     * Adds or removes the row of a changed deadline in the deadline table.
+     */
+    private void handleDeadlineChange(TaskChange change, Assignment task) {
+        if (change == TaskChange.REMINDER_CHANGED) {
+            return;
+        }
+        runOnFxThread(() -> {
+            isProgressStale = true;
+            if (change == TaskChange.ADDED) {
+                addDeadlineRow(task, currentMinute());
+                return;
+            }
+            DeadlineView row = deadlineRows.remove(task);
+            if (row != null) {
+                deadlineViews.remove(row);
+            }
+        });
     }
 
     /**
-     * Pulls the list from storage data and stores here.
-     * @throws IOException On input error reading lines in the file
-     * @throws ParseException On conversion error from string to Task object
+     * Runs the update now if on the JavaFX thread, as it is for changes made by commands,
+     * or later on it for changes made by other threads.
+     * Updates made by a command are timed as part of the window refresh for that command,
+     * while updates made later are each timed as a window refresh of their own.
      */
-    private void retrieveList() throws DukeIOException {
-        eventsList = new TaskList();
-        deadlinesList = new TaskList();
-        storage.readEventList(eventsList);
-        storage.readDeadlineList(deadlinesList);
-        events = eventsList.getList();
-        deadlines = deadlinesList.getList();
+    private void runOnFxThread(Runnable update) {
+        if (Platform.isFxApplicationThread()) {
+            long start = System.nanoTime();
+            update.run();
+            listenerRefreshNanos += System.nanoTime() - start;
+        } else {
+            Platform.runLater(() -> {
+                long start = System.nanoTime();
+                update.run();
+                PerformanceMetrics.getInstance().recordRefresh(System.nanoTime() - start);
+            });
+        }
     }
 
     private ObservableList<DukeResponseView> betterDukeResponse = FXCollections.observableArrayList();
 
-    private void setDeadlineTableContents() throws ParseException {
+    private void setDeadlineTableContents() {
         overdueDateColumn.setCellValueFactory(new PropertyValueFactory<>("date"));
         overdueTaskColumn.setCellValueFactory(new PropertyValueFactory<>("task"));
         overdueDaysColumn.setCellValueFactory(new PropertyValueFactory<>("overDays"));
-        overdueTable.setItems(setDeadlineTable());
+        overdueTable.setItems(deadlineViews);
     }
 
-    private ObservableList<DeadlineView> setDeadlineTable() throws ParseException {
-        String dateTime;
-        String modCodeAndTask;
-        String overDays;
-        boolean isDone;
-
-        ObservableList<DeadlineView> deadlineViews = FXCollections.observableArrayList();
-        for (Assignment assignment: deadlines) {
-            isDone = assignment.getStatus();
+    /**
+     * This method fills the deadline table with every deadline not done yet, working out the days overdue as of now.
+     */
+    private void setDeadlineTable() {
+        deadlineViews.clear();
+        deadlineRows.clear();
+        deadlineTableDate = LocalDate.now();
+        long now = currentMinute();
+        for (Assignment assignment : deadlinesList.getList()) {
+            addDeadlineRow(assignment, now);
+        }
+    }
 
-            modCodeAndTask = assignment.getModCode() + "\n" + assignment.getDescription();
-            dateTime = assignment.getDateTime();
-            if (isDone) {
-                overDays = "-";
-                continue;
-            } else {
-                Date taskDateTime = DukeConstants.DEADLINE_DATE_FORMAT.parse(dateTime);
-                overDays = String.valueOf(daysBetween(taskDateTime));
-                int daysToOrPast = Integer.parseInt(overDays);
-                if (daysToOrPast <= 0) {
-                    overDays = "-";
-                }
-            }
-            Text textModCodeAndTask = new Text(modCodeAndTask);
-            textModCodeAndTask.setWrappingWidth(overdueTaskColumn.getWidth() - 5);
-            Text textDateTime = new Text(dateTime);
-            textDateTime.setWrappingWidth(overdueDateColumn.getWidth() - 5);
-            Text textOverDays = new Text(overDays);
-            textOverDays.setWrappingWidth(overdueDaysColumn.getWidth() - 5);
-            deadlineViews.add(new DeadlineView(textModCodeAndTask, textDateTime, textOverDays));
+    private void addDeadlineRow(Assignment assignment, long now) {
+        if (assignment.getStatus()) {
+            return;
+        }
+        String modCodeAndTask = assignment.getModCode() + "\n" + assignment.getDescription();
+        String dateTime = assignment.getDateTime();
+        String overDays = "-";
+        long due = assignment.getEndMinute();
+        if (due != Assignment.UNKNOWN_TIME && daysBetween(due, now) > 0) {
+            overDays = String.valueOf(daysBetween(due, now));
         }
-        return deadlineViews;
+        Text textModCodeAndTask = new Text(modCodeAndTask);
+        textModCodeAndTask.setWrappingWidth(overdueTaskColumn.getWidth() - 5);
+        Text textDateTime = new Text(dateTime);
+        textDateTime.setWrappingWidth(overdueDateColumn.getWidth() - 5);
+        Text textOverDays = new Text(overDays);
+        textOverDays.setWrappingWidth(overdueDaysColumn.getWidth() - 5);
+        DeadlineView row = new DeadlineView(textModCodeAndTask, textDateTime, textOverDays);
+        deadlineRows.put(assignment, row);
+        deadlineViews.add(row);
     }
 
     private void setDukeResponse() {
@@ -261,26 +383,29 @@ public class MainWindow extends BorderPane implements Initializable {
     }
 
     @FXML
-    private void handleUserInput() throws IOException, ParseException {
+    private void handleUserInput() {
         String input = userInput.getText();
-        String response = duke.getResponse(input);
+        listenerRefreshNanos = 0;
+        final String response = duke.getResponse(input);
+        final long responded = System.nanoTime();
         if (input.startsWith(DukeConstants.SHOW_WEEK_HEADER)) {
             if (WeekParse.isValid(input)) {
                 week = input;
                 setWeek(false, WeekParse.getWeek(input));
+                outputWeekList = WeekCommand.getWeekList();
+                updateListView();
             }
         }
 
-        retrieveList();
-        duke.getResponse(week);
-        outputWeekList = WeekCommand.getWeekList();
-        updateListView();
-
         outputList = ShowPreviousCommand.getOutputList();
 
-        overdueTable.setItems(setDeadlineTable());
-
-        setProgressContainer();
+        if (!LocalDate.now().equals(deadlineTableDate)) {
+            setDeadlineTable();
+        }
+        if (isProgressStale) {
+            isProgressStale = false;
+            setProgressContainer();
+        }
         if (!response.isEmpty() && !response.equals(DukeConstants.NO_FIELD)) {
             Text temp = new Text(response);
             temp.setWrappingWidth(dukeResponseColumn.getWidth() - 20);
@@ -306,11 +431,15 @@ public class MainWindow extends BorderPane implements Initializable {
             userInput.setText(selectedOption);
             userInput.positionCaret(DukeConstants.ADD_EVENT_HEADER.length() + DukeConstants.BLANK_SPACE.length());
         }
+        PerformanceMetrics.getInstance().recordRefresh(listenerRefreshNanos + System.nanoTime() - responded);
+    }
+
+    private long daysBetween(long dueMinute, long nowMinute) {
+        return (nowMinute - dueMinute) / (MINUTES * HOURS);
     }
 
-    private long daysBetween(Date date) {
-        Date currentDate = new Date();
-        return (currentDate.getTime() - date.getTime()) / (MILLISECONDS * SECONDS * MINUTES * HOURS);
+    private long currentMinute() {
+        return LocalDateTime.now().toEpochSecond(ZoneOffset.UTC) / SECONDS;
     }
 
     private String week = DukeConstants.NO_FIELD;
@@ -321,20 +450,23 @@ public class MainWindow extends BorderPane implements Initializable {
      * @param selectedWeek The week selected
      */
     private void setWeek(Boolean onStart,String selectedWeek) {
+        AcademicWeek academicWeek;
         if (onStart) {
-            Date dateTime = new Date();
-            String date = DukeConstants.EVENT_DATE_INPUT_FORMAT.format(dateTime);
-            selectedWeek = lookupTable.getValue(date);
-            weekLabel.setText(selectedWeek + START_WEEK_DELIMITER + lookupTable.getValue(selectedWeek.toLowerCase())
-                    + END_WEEK_DELIMITER);
-
-            week = WeekParse.getWeekCommandFormat(selectedWeek);
+            academicWeek = academicCalendar.getCurrentWeek(LocalDate.now());
+            if (academicWeek == null) {
+                return;
+            }
+            week = WeekParse.getWeekCommandFormat(academicWeek.getLabel());
             weekLabel.setFont(Font.font("Verdana", FontWeight.BOLD, FontPosture.ITALIC,30));
             weekLabel.setTextFill(Color.GOLDENROD);
         } else {
-            weekLabel.setText(selectedWeek + START_WEEK_DELIMITER + lookupTable.getValue(selectedWeek.toLowerCase())
-                    + END_WEEK_DELIMITER);
+            academicWeek = academicCalendar.findWeek(selectedWeek);
+            if (academicWeek == null) {
+                return;
+            }
         }
+        weekLabel.setText(academicWeek.getLabel() + START_WEEK_DELIMITER + academicWeek.getRange()
+                + END_WEEK_DELIMITER);
     }
 
     private void updateListView() {
@@ -0,0 +1,40 @@
+package userinterface;
+
+import commons.WeekEntry;
+import tasks.Assignment;
+import javafx.scene.control.ListCell;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+/**
+ * Shows an event in a day of the week view. The ListView only creates cells for the rows in sight and reuses
+ * them as the list scrolls, so the text of an event is only drawn while it can be seen.
+ */
+public class WeekEntryCell extends ListCell<WeekEntry> {
+    private static final Font ENTRY_FONT = Font.font(10);
+    private Text toShow;
+
+    /**
+     * This method shows the event given, or clears the cell if it is empty.
+     * @param entry The event in this row of the day
+     * @param isEmpty Whether the row has no event
+     */
+    @Override
+    protected void updateItem(WeekEntry entry, boolean isEmpty) {
+        super.updateItem(entry, isEmpty);
+        if (isEmpty || entry == null) {
+            setGraphic(null);
+            return;
+        }
+        if (toShow == null) {
+            toShow = new Text();
+            toShow.setFont(ENTRY_FONT);
+        }
+        Assignment task = entry.getTask();
+        toShow.setText(task.toShow() + task.getModCode() + "\n" + task.getDescription());
+        toShow.setFill(task.getStatus() ? Color.GAINSBORO : Color.BLACK);
+        toShow.setStrikethrough(task.getStatus());
+        setGraphic(toShow);
+    }
+}
@@ -0,0 +1,106 @@
+package conflicttest;
+
+import tasks.Assignment;
+import tasks.Deadline;
+import tasks.Event;
+import tasks.TaskList;
+import org.junit.jupiter.api.Test;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FindConflictsTest {
+    private static final String DATE = "Wed 13/11/2019";
+    private static final int MINUTES_PER_HOUR = 60;
+
+    @Test
+    public void findConflicts_touchingIntervals_conflict() throws ParseException {
+        TaskList events = new TaskList();
+        Assignment morning = new Event("CS2100 lecture", DATE, "10:00 AM", "12:00 PM");
+        events.addTask(morning);
+        events.addTask(new Event("CS2101 seminar", "Thu 14/11/2019", "12:00 PM", "02:00 PM"));
+
+        List<Assignment> conflicts = events.findConflicts(new Event("CS2113T meeting", DATE, "12:00 PM",
+                "02:00 PM"));
+        assertEquals(1, conflicts.size());
+        assertSame(morning, conflicts.get(0));
+        assertEquals(1, events.findConflicts(new Deadline("CS2113T report", DATE, "10:00 AM")).size());
+        assertTrue(events.findConflicts(new Event("CS2113T meeting", DATE, "12:01 PM", "02:00 PM")).isEmpty());
+    }
+
+    @Test
+    public void removeTask_sameInterval_otherTaskStillFound() throws ParseException {
+        TaskList events = new TaskList();
+        Assignment lecture = new Event("CS2100 lecture", DATE, "10:00 AM", "12:00 PM");
+        Assignment seminar = new Event("CS2101 seminar", DATE, "10:00 AM", "12:00 PM");
+        events.addTask(lecture);
+        events.addTask(seminar);
+        Assignment query = new Event("CS2113T meeting", DATE, "11:00 AM", "11:30 AM");
+        assertEquals(2, events.findConflicts(query).size());
+
+        events.removeTask(new Event("CS2100 lecture", DATE, "10:00 AM", "12:00 PM"));
+        List<Assignment> conflicts = events.findConflicts(query);
+        assertEquals(1, conflicts.size());
+        assertSame(seminar, conflicts.get(0));
+
+        events.removeTask(new Event("CS2101 seminar", DATE, "10:00 AM", "12:00 PM"));
+        assertTrue(events.findConflicts(query).isEmpty());
+    }
+
+    @Test
+    public void findConflicts_randomInsertsAndRemoves_matchesBruteForce() throws ParseException {
+        Random random = new Random(2113);
+        TaskList events = new TaskList();
+        List<Assignment> added = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            if (!added.isEmpty() && random.nextInt(3) == 0) {
+                Assignment removed = added.remove(random.nextInt(added.size()));
+                events.removeTask(removed);
+            } else {
+                int start = 8 * MINUTES_PER_HOUR + random.nextInt(48) * 15;
+                int end = Math.min(start + random.nextInt(12) * 15, 23 * MINUTES_PER_HOUR + 45);
+                Assignment task = new Event("CS" + (1000 + i) + " event", DATE, toTime(start), toTime(end));
+                events.addTask(task);
+                added.add(task);
+            }
+            if (i % 10 == 0) {
+                for (int query = 0; query < 5; query++) {
+                    int start = 7 * MINUTES_PER_HOUR + random.nextInt(64) * 15;
+                    int end = Math.min(start + random.nextInt(16) * 15, 23 * MINUTES_PER_HOUR + 45);
+                    Assignment queryTask = new Event("QUERY check", DATE, toTime(start), toTime(end));
+                    assertEquals(bruteForce(added, queryTask), asSet(events.findConflicts(queryTask)));
+                }
+            }
+        }
+    }
+
+    private static Set<Assignment> bruteForce(List<Assignment> tasks, Assignment query) {
+        Set<Assignment> conflicts = asSet(Collections.emptyList());
+        for (Assignment task : tasks) {
+            if (task.getStartMinute() <= query.getEndMinute() && task.getEndMinute() >= query.getStartMinute()) {
+                conflicts.add(task);
+            }
+        }
+        return conflicts;
+    }
+
+    private static Set<Assignment> asSet(List<Assignment> tasks) {
+        Set<Assignment> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(tasks);
+        return set;
+    }
+
+    private static String toTime(int minuteOfDay) {
+        int hour = minuteOfDay / MINUTES_PER_HOUR;
+        int twelveHour = hour % 12 == 0 ? 12 : hour % 12;
+        return String.format("%02d:%02d %s", twelveHour, minuteOfDay % MINUTES_PER_HOUR, hour < 12 ? "AM" : "PM");
+    }
+}
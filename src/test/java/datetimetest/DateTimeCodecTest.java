@@ -0,0 +1,115 @@
+package datetimetest;
+
+import commons.DateTimeCodec;
+import org.junit.jupiter.api.Test;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DateTimeCodecTest {
+    private static final String[] DATES = {"13/11/2019", "1/1/2020", "013/11/2019", "13/11/2019 ", "32/11/2019",
+        "13/13/2019", "00/11/2019", "13/11/2019abc", " 13/11/2019"};
+    private static final String[] DAY_DATES = {"Wed 13/11/2019", "wed 13/11/2019", "Mon 13/11/2019",
+        "Wednesday 13/11/2019", "Wed  13/11/2019", "Wed 32/11/2019", "Sun 5/1/2020"};
+    private static final String[] TIMES = {"1300", "0000", "2359", "0960", "2500", "0800"};
+    private static final String[] TWELVE_HOUR_TIMES = {"01:00 PM", "1:00 pm", "12:00 AM", "12:00 PM", " 01:00 PM",
+        "13:00 PM", "01:60 AM", "00:30 AM", "11:59 pm"};
+    private static final String[] DATE_TIMES = {"13/11/2019 1300", "13/11/2019 2400", "31/12/2019 2400",
+        "13/11/2019 2359", " 13/11/2019 1300", "1/1/2020 0000"};
+    private static final String[] DAY_DATE_TIMES = {"Wed 13/11/2019 01:00 PM", "Wed 13/11/2019 1:00 pm",
+        "Wed 13/11/2019 12:00 AM", "Wed 13/11/2019 13:00 PM", "Wed 13/11/2019  01:00 PM",
+        "Tue 31/12/2019 11:59 PM"};
+    private static final String[] UNREADABLE = {"", "ab", "13/11", "13-11-2019", "12:00", "13"};
+
+    @Test
+    public void parseDate_sameAsSimpleDateFormat() throws ParseException {
+        SimpleDateFormat format = new SimpleDateFormat("dd/MM/yyyy");
+        for (String date : DATES) {
+            assertEquals(DateTimeCodec.fromDate(format.parse(date)).toLocalDate(), DateTimeCodec.parseDate(date),
+                    date);
+        }
+    }
+
+    @Test
+    public void parseDayDate_sameAsSimpleDateFormat() throws ParseException {
+        SimpleDateFormat format = new SimpleDateFormat("E dd/MM/yyyy");
+        for (String date : DAY_DATES) {
+            assertEquals(DateTimeCodec.fromDate(format.parse(date)).toLocalDate(), DateTimeCodec.parseDayDate(date),
+                    date);
+        }
+    }
+
+    @Test
+    public void parseTime_sameTimeOfDayAsSimpleDateFormat() throws ParseException {
+        SimpleDateFormat format = new SimpleDateFormat("HHmm");
+        for (String time : TIMES) {
+            assertEquals(DateTimeCodec.fromDate(format.parse(time)).toLocalTime(), DateTimeCodec.parseTime(time),
+                    time);
+        }
+    }
+
+    @Test
+    public void parseTwelveHourTime_sameTimeOfDayAsSimpleDateFormat() throws ParseException {
+        SimpleDateFormat format = new SimpleDateFormat("hh:mm a");
+        for (String time : TWELVE_HOUR_TIMES) {
+            assertEquals(DateTimeCodec.fromDate(format.parse(time)).toLocalTime(),
+                    DateTimeCodec.parseTwelveHourTime(time), time);
+        }
+    }
+
+    @Test
+    public void parseDateTime_sameAsSimpleDateFormat() throws ParseException {
+        SimpleDateFormat format = new SimpleDateFormat("dd/MM/yyyy HHmm");
+        for (String dateTime : DATE_TIMES) {
+            assertEquals(DateTimeCodec.fromDate(format.parse(dateTime)), DateTimeCodec.parseDateTime(dateTime),
+                    dateTime);
+        }
+    }
+
+    @Test
+    public void parseDayDateTime_sameAsSimpleDateFormat() throws ParseException {
+        SimpleDateFormat format = new SimpleDateFormat("E dd/MM/yyyy hh:mm a");
+        for (String dateTime : DAY_DATE_TIMES) {
+            assertEquals(DateTimeCodec.fromDate(format.parse(dateTime)), DateTimeCodec.parseDayDateTime(dateTime),
+                    dateTime);
+        }
+    }
+
+    @Test
+    public void parse_unreadableText_exceptionThrown() {
+        for (String text : UNREADABLE) {
+            assertThrows(ParseException.class, () -> DateTimeCodec.parseDate(text), text);
+            assertThrows(ParseException.class, () -> DateTimeCodec.parseDayDate(text), text);
+            assertThrows(ParseException.class, () -> DateTimeCodec.parseDateTime(text), text);
+        }
+        assertThrows(ParseException.class, () -> DateTimeCodec.parseDate(null));
+        assertThrows(ParseException.class, () -> DateTimeCodec.parseTwelveHourTime("01:00PM"));
+    }
+
+    @Test
+    public void parse_intendedDifferences() throws ParseException {
+        assertEquals(LocalTime.MIDNIGHT, DateTimeCodec.parseTime("2400"));
+        assertEquals(LocalDateTime.of(2019, 11, 14, 0, 0), DateTimeCodec.parseDateTime("13/11/2019 2400"));
+        assertEquals(LocalDateTime.of(2019, 11, 13, 13, 0), DateTimeCodec.parseDateTime("13/11/2019  1300"));
+        assertEquals(LocalTime.of(13, 0), DateTimeCodec.parseTime(" 1300"));
+        assertEquals(LocalDate.of(2019, 11, 13), DateTimeCodec.parseDayDate("Xyz 13/11/2019"));
+        assertEquals(LocalDate.of(2019, 11, 13), DateTimeCodec.parseDayDate(" Wed 13/11/2019"));
+        assertThrows(ParseException.class, () -> DateTimeCodec.parseTime("900"));
+    }
+
+    @Test
+    public void format_sameAsStoredFormat() {
+        LocalDateTime dateTime = LocalDateTime.of(2019, 11, 13, 13, 5);
+        assertEquals("Wed 13/11/2019", DateTimeCodec.formatDayDate(dateTime.toLocalDate()));
+        assertEquals("01:05 PM", DateTimeCodec.formatTwelveHourTime(dateTime.toLocalTime()));
+        assertEquals("12:00 AM", DateTimeCodec.formatTwelveHourTime(0));
+        assertEquals("Wed 13/11/2019 01:05 PM", DateTimeCodec.formatDayDateTime(dateTime));
+        assertEquals("1305", DateTimeCodec.formatTime(dateTime.toLocalTime()));
+        assertEquals("13/11/2019", DateTimeCodec.formatDate(dateTime.toLocalDate()));
+    }
+}
@@ -2,6 +2,7 @@ package filtertest;
 
 import commands.Command;
 import commands.FilterCommand;
+import commons.DukeConstants;
 import commons.UserInteraction;
 import stubclasses.StorageStub;
 import tasks.Assignment;
@@ -110,4 +111,26 @@ public class FilterTest {
         assertEquals(w1, w2);
     }
 
+    @Test
+    public void findByKeyword_keywordSpanningWords_onlyExactMatchesFound() {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Event("CS2101 EventWithKey","12/10/2019","1300","1301"));
+        tasks.addTask(new Event("CS2101 KeyEvent","12/10/2019","1400","1401"));
+        assertEquals(1, tasks.findByKeyword("eventwith").size());
+        assertEquals(1, tasks.findByKeyword("withkey (at:").size());
+        assertEquals(0, tasks.findByKeyword("key eventwith").size());
+        assertEquals(2, tasks.findByKeyword("12/10").size());
+    }
+
+    @Test
+    public void findByKeyword_taskDoneOrRemoved_indexUpdated() {
+        TaskList tasks = new TaskList();
+        Assignment task = new Deadline("CS2101 DeadlineWithKey","13/10/2019","1200");
+        tasks.addTask(task);
+        assertEquals(0, tasks.findByKeyword("[" + DukeConstants.DONE_INDICATOR + "]").size());
+        tasks.updateTask(new Deadline("CS2101 DeadlineWithKey","13/10/2019","1200"));
+        assertEquals(1, tasks.findByKeyword("[" + DukeConstants.DONE_INDICATOR + "]").size());
+        tasks.removeTask(task);
+        assertEquals(0, tasks.findByKeyword("withkey").size());
+    }
 }
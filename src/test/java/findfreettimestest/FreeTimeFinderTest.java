@@ -0,0 +1,47 @@
+package findfreettimestest;
+
+import tasks.Event;
+import tasks.FreeTimeFinder;
+import tasks.TaskList;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * This class tests FreeTimeFinder.
+ */
+public class FreeTimeFinderTest {
+    private static final int DAY_START = 7 * 60;
+    private static final int DAY_END = 23 * 60 + 59;
+    private static final int TWO_HOURS = 120;
+
+    private static long minute(int day, int hour, int minute) {
+        return LocalDateTime.of(2019, 11, day, hour, minute).toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    @Test
+    public void find_overlappingEvents_mergedIntoOneBusyBlock() {
+        TaskList events = new TaskList();
+        events.addTask(new Event("CS2100 lecture", "Wed 13/11/2019", "09:00 AM", "11:00 AM"));
+        events.addTask(new Event("CS2113T meeting", "Wed 13/11/2019", "10:00 AM", "12:10 PM"));
+        events.addTask(new Event("CS2101 tutorial", "Wed 13/11/2019", "12:00 PM", "12:30 PM"));
+        events.addTask(new Event("CS2100 lab", "Wed 13/11/2019", "03:00 PM", "04:00 PM"));
+
+        long[] expected = {minute(13, 12, 45), minute(13, 16, 15), minute(13, 17, 15), minute(13, 18, 15),
+            minute(13, 19, 15)};
+        long[] actual = new FreeTimeFinder(DAY_START, DAY_END, 5).find(events, minute(13, 8, 0), TWO_HOURS);
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void find_outsideDayBounds_movedToNextMorning() {
+        TaskList events = new TaskList();
+        events.addTask(new Event("CS2100 lecture", "Thu 14/11/2019", "08:00 AM", "09:00 AM"));
+
+        long[] expected = {minute(14, 9, 15), minute(14, 10, 15), minute(14, 11, 15)};
+        long[] actual = new FreeTimeFinder(DAY_START, DAY_END, 3).find(events, minute(13, 22, 40), TWO_HOURS);
+        assertArrayEquals(expected, actual);
+    }
+}
@@ -0,0 +1,98 @@
+package importtest;
+
+import commands.ImportCommand;
+import commons.Storage;
+import commons.UserInteraction;
+import dukeexceptions.DukeIOException;
+import tasks.Event;
+import tasks.TaskList;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ImportCommandTest {
+    private final UserInteraction ui = new UserInteraction();
+    private final TaskList events = new TaskList();
+    private final TaskList deadlines = new TaskList();
+    private final int[] saves = new int[2];
+    private final Storage storage = new Storage() {
+        @Override
+        public void updateEventList(TaskList list) {
+            saves[0]++;
+        }
+
+        @Override
+        public void updateDeadlineList(TaskList list) {
+            saves[1]++;
+        }
+    };
+
+    @TempDir
+    Path folder;
+
+    private String writeFile(String... lines) throws IOException {
+        Path file = folder.resolve("timetable.csv");
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return file.toString();
+    }
+
+    @Test
+    public void execute_addsEveryLineAndSavesOnce() throws Exception {
+        String file = writeFile("type,modCode,description,date,start,end,repeat,until",
+                "E,CS2100,lecture,14/08/2019,1000,1200,weekly,13/11/2019",
+                "# tutorials start in week 3",
+                "E,CS2100,tutorial,week 3 thu,1100,1200,biweekly,week 13 thu",
+                "",
+                "D,CS2113T,tP v1.4,week 13 mon,2359");
+        String response = new ImportCommand(file).execute(events, deadlines, ui, storage);
+        assertEquals(ui.showImport(20, 1, file), response);
+        assertEquals(20, events.taskListSize());
+        assertEquals(1, deadlines.taskListSize());
+        assertEquals(1, saves[0]);
+        assertEquals(1, saves[1]);
+    }
+
+    @Test
+    public void execute_clashingLines_importsNothing() throws Exception {
+        events.addTask(new Event("CS2101 sectional", "Tue 12/11/2019", "02:00 PM", "04:00 PM"));
+        String file = writeFile("E,CS2100,lecture,13/11/2019,1000,1200",
+                "E,CS2107,lecture,13/11/2019,1130,1230",
+                "E,CS2113T,lecture,12/11/2019,1500,1600",
+                "D,CS2113T,tP,12/11/2019,2359",
+                "D,CS2113T,tP again,12/11/2019,2359");
+        String response = new ImportCommand(file).execute(events, deadlines, ui, storage);
+        assertTrue(response.contains("Line 2: "), response);
+        assertTrue(response.contains("Line 3: "), response);
+        assertTrue(response.contains("Line 5: "), response);
+        assertEquals(1, events.taskListSize());
+        assertEquals(0, deadlines.taskListSize());
+        assertEquals(0, saves[0] + saves[1]);
+    }
+
+    @Test
+    public void execute_invalidLines_reportedWithLineNumbers() throws Exception {
+        String file = writeFile("E,XX0000,lecture,13/11/2019,1000,1200",
+                "E,CS2100,lecture,13/11/2030,1000,1200",
+                "E,CS2100,lecture,13/11/2019,1200,1000",
+                "D,CS2100,assignment,13/11/2019");
+        String response = new ImportCommand(file).execute(events, deadlines, ui, storage);
+        for (int line = 1; line <= 4; line++) {
+            assertTrue(response.contains("Line " + line + ": "), response);
+        }
+        assertEquals(0, events.taskListSize());
+    }
+
+    @Test
+    public void execute_missingFile_throwsException() {
+        assertThrows(DukeIOException.class, () -> new ImportCommand(folder.resolve("missing.csv").toString())
+                .execute(events, deadlines, ui, storage));
+    }
+}
@@ -0,0 +1,76 @@
+package loggertest;
+
+import commons.AsyncLogHandler;
+import commons.DukeLogger;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsyncLogHandlerTest {
+    private static final int RECORD_COUNT = 10;
+
+    private final List<String> written = new CopyOnWriteArrayList<>();
+    private final Handler target = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            written.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    @Test
+    public void publish_fullBufferDropsRecordsAndSaysHowMany() throws InterruptedException {
+        CountDownLatch isReleased = new CountDownLatch(1);
+        AsyncLogHandler handler = new AsyncLogHandler(2, () -> {
+            try {
+                isReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return target;
+        });
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            handler.publish(new LogRecord(Level.SEVERE, "record " + i));
+        }
+        isReleased.countDown();
+        handler.flush();
+
+        long dropped = handler.getDroppedCount();
+        assertTrue(dropped > 0);
+        assertEquals(RECORD_COUNT - dropped + 1, written.size());
+        assertEquals("record 0", written.get(0));
+        assertTrue(written.contains(dropped + " log records were dropped"), written.toString());
+    }
+
+    @Test
+    public void publish_recordsBelowLevelIgnored() {
+        AsyncLogHandler handler = new AsyncLogHandler(RECORD_COUNT, () -> target);
+        handler.setLevel(Level.SEVERE);
+        handler.publish(new LogRecord(Level.INFO, "typo"));
+        handler.publish(new LogRecord(Level.SEVERE, "failure"));
+        handler.flush();
+
+        assertEquals(1, written.size());
+        assertEquals("failure", written.get(0));
+    }
+
+    @Test
+    public void getLogger_sameLoggerEachTime() {
+        assertSame(DukeLogger.getLogger(AsyncLogHandlerTest.class), DukeLogger.getLogger("AsyncLogHandlerTest"));
+    }
+}
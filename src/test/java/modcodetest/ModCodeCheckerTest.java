@@ -0,0 +1,41 @@
+package modcodetest;
+
+import commons.ModCodeChecker;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ModCodeCheckerTest {
+    private ModCodeChecker modCodeChecker = ModCodeChecker.getInstance();
+
+    @Test
+    public void isModCode_ignoresCaseAndSurroundingSpaces() {
+        assertTrue(modCodeChecker.isModCode("CS2113T"));
+        assertTrue(modCodeChecker.isModCode(" cs2113t "));
+        assertTrue(modCodeChecker.isModCode("CS2113"));
+        assertFalse(modCodeChecker.isModCode("CS211"));
+        assertFalse(modCodeChecker.isModCode("CS2113X"));
+        assertFalse(modCodeChecker.isModCode("C"));
+        assertFalse(modCodeChecker.isModCode(""));
+        assertFalse(modCodeChecker.isModCode("Module Code"));
+    }
+
+    @Test
+    public void modCodesStartingWithPrefix_inAlphabeticalOrder() {
+        assertEquals(Arrays.asList("CS2103", "CS2103T"), modCodeChecker.getModCodesStartingWith("cs2103", 10));
+        assertEquals(Arrays.asList("CS2100", "CS2101"), modCodeChecker.getModCodesStartingWith("CS210", 2));
+        assertTrue(modCodeChecker.getModCodesStartingWith("QQ", 10).isEmpty());
+    }
+
+    @Test
+    public void completeModCode_extendsAsFarAsCodesAgree() {
+        assertEquals("CS2113", modCodeChecker.completeModCode("cs2113"));
+        assertEquals("CS1010", modCodeChecker.completeModCode("CS101"));
+        assertEquals("CS1", modCodeChecker.completeModCode("CS1"));
+        assertNull(modCodeChecker.completeModCode("QQ"));
+    }
+}
@@ -0,0 +1,78 @@
+package remindtest;
+
+import commons.DukeConstants;
+import commons.Reminder;
+import commons.ReminderMetrics;
+import commons.Storage;
+import dukeexceptions.DukeInvalidDateTimeException;
+import tasks.Assignment;
+import tasks.Deadline;
+import tasks.TaskList;
+import java.util.Date;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReminderTest {
+    private static final long HOUR = 60 * 60 * 1000;
+
+    @Test
+    public void metricsFollowSetAndRemovedReminders() throws DukeInvalidDateTimeException {
+        Reminder reminder = new Reminder();
+        reminder.setStorage(new Storage() {
+            @Override
+            public void journalReminder(Assignment task) {
+            }
+        });
+        TaskList deadlines = new TaskList();
+        Assignment exam = new Deadline("CS2100 exam", "Wed 13/11/2019", "11:00 AM");
+        deadlines.addTask(exam);
+        reminder.setDeadlines(deadlines);
+        Date inOneHour = new Date(System.currentTimeMillis() + HOUR);
+        Date inTwoHours = new Date(inOneHour.getTime() + HOUR);
+
+        reminder.setReminderThread(inTwoHours, exam);
+        reminder.setReminderThread(inOneHour, exam);
+        assertThrows(DukeInvalidDateTimeException.class, () -> reminder.setReminderThread(inOneHour, exam));
+        ReminderMetrics metrics = reminder.getMetrics();
+        assertEquals(2, metrics.getPendingCount());
+        assertEquals(inOneHour, metrics.getNextReminder());
+
+        reminder.removeTimerTask(exam, inOneHour, DukeConstants.NO_FIELD);
+        reminder.removeTimerTask(exam, inTwoHours, DukeConstants.NO_FIELD);
+        metrics = reminder.getMetrics();
+        assertEquals(0, metrics.getPendingCount());
+        assertEquals(2, metrics.getCancelledCount());
+        assertEquals(0, metrics.getFiredCount());
+        assertNull(metrics.getNextReminder());
+    }
+
+    @Test
+    public void headlessReminder_onlyRunWhenDue() throws DukeInvalidDateTimeException, InterruptedException {
+        Reminder reminder = new Reminder();
+        reminder.setHeadless(true);
+        reminder.setStorage(new Storage() {
+            @Override
+            public void journalReminder(Assignment task) {
+            }
+        });
+        TaskList deadlines = new TaskList();
+        Assignment exam = new Deadline("CS2100 exam", "Wed 13/11/2019", "11:00 AM");
+        deadlines.addTask(exam);
+        reminder.setDeadlines(deadlines);
+
+        reminder.setReminderThread(new Date(System.currentTimeMillis() + 1), exam);
+        Thread.sleep(100);
+        assertTrue(exam.getIsReminder());
+        assertEquals(0, reminder.getMetrics().getFiredCount());
+
+        reminder.runDueReminders();
+        assertFalse(exam.getIsReminder());
+        assertEquals(1, reminder.getMetrics().getFiredCount());
+        assertTrue(reminder.getRemindMap().isEmpty());
+    }
+}
@@ -0,0 +1,43 @@
+package statisticstest;
+
+import commons.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+    private static final double TOLERANCE = 0.04;
+
+    @Test
+    public void getPercentile_nothingRecorded_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    public void getPercentile_withinFewPercent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos * 1000);
+        }
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000, histogram.getMax());
+        long median = histogram.getPercentile(50);
+        long ninetyNinth = histogram.getPercentile(99);
+        assertTrue(Math.abs(median - 50_000_000) <= 50_000_000 * TOLERANCE);
+        assertTrue(Math.abs(ninetyNinth - 99_000_000) <= 99_000_000 * TOLERANCE);
+        assertEquals(100_000_000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void record_smallTimes_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(7);
+        assertEquals(3, histogram.getPercentile(50));
+        assertEquals(7, histogram.getPercentile(99));
+        assertEquals(5.0, histogram.getMean());
+    }
+}
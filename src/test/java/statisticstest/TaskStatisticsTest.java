@@ -0,0 +1,56 @@
+package statisticstest;
+
+import tasks.Assignment;
+import tasks.Deadline;
+import tasks.Event;
+import tasks.TaskList;
+import tasks.TaskStatistics;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class TaskStatisticsTest {
+
+    @Test
+    public void countsFollowAddDoneAndRemove() {
+        TaskList list = new TaskList();
+        Assignment tutorial = new Event("CS2100 tutorial", "Wed 13/11/2019", "11:00 AM", "12:00 PM");
+        Assignment lecture = new Event("CS2100 lecture", "Thu 14/11/2019", "02:00 PM", "04:00 PM");
+        Assignment meeting = new Event("CS2113T meeting", "Wed 13/11/2019", "01:00 PM", "02:00 PM");
+        list.addTask(tutorial);
+        list.addTask(lecture);
+        list.addTask(meeting);
+        list.updateTask(tutorial);
+        list.updateTask(tutorial);
+
+        TaskStatistics statistics = list.getStatistics();
+        assertEquals(3, list.taskListSize());
+        assertEquals(1, statistics.getDone());
+        assertEquals(2, statistics.getModuleTotal("CS2100"));
+        assertEquals(1, statistics.getModuleDone("CS2100"));
+        assertEquals(1, statistics.getModuleTotal("CS2113T"));
+
+        list.removeTask(meeting);
+        assertEquals(2, statistics.getTotal());
+        assertFalse(statistics.getModules().contains("CS2113T"));
+        assertEquals(0, statistics.getModuleTotal("CS2113T"));
+    }
+
+    @Test
+    public void overdueCountsOnlyPendingPastTasks() {
+        TaskList list = new TaskList();
+        Assignment past = new Deadline("CS2100 assignment", "Fri 15/11/2019", "11:59 PM");
+        Assignment pastDone = new Deadline("CS2100 report", "Sat 16/11/2019", "11:59 PM");
+        Assignment future = new Deadline("CS2100 project", "Fri 15/11/2999", "11:59 PM");
+        list.addTask(past);
+        list.addTask(pastDone);
+        list.addTask(future);
+        list.updateTask(pastDone);
+
+        TaskStatistics statistics = list.getStatistics();
+        assertEquals(1, statistics.getOverdue());
+        list.updateTask(past);
+        assertEquals(0, statistics.getOverdue());
+    }
+}
@@ -0,0 +1,105 @@
+package storagetest;
+
+import commons.BinarySnapshot;
+import commons.DukeLogger;
+import commons.TaskRecordScanner;
+import tasks.Assignment;
+import tasks.Deadline;
+import tasks.Event;
+import tasks.TaskList;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BinarySnapshotTest {
+    private TaskRecordScanner scanner = new TaskRecordScanner();
+
+    @Test
+    public void encode_tasksReadBackUnchanged() throws IOException {
+        Assignment event = new Event("CS2100 tutorial", "Wed 13/11/2019", "11:00 AM", "12:00 PM");
+        event.setDone(true);
+        Assignment deadline = new Deadline("CS2113T report", "Fri 15/11/2019", "11:59 PM");
+        deadline.setReminder(true);
+        deadline.setRemindTime("Fri 15/11/2019 09:00 AM");
+        Assignment textRecord = new Deadline("CS2101 script", "Thu 14/11/2019", "10:00 AM");
+        textRecord.setReminder(true);
+        textRecord.setRemindTime("Thu 14/11/2019 8:00 am");
+        ArrayList<Assignment> tasks = new ArrayList<>();
+        tasks.add(event);
+        tasks.add(deadline);
+        tasks.add(textRecord);
+
+        TaskList list = readBack(tasks);
+
+        assertEquals(3, list.taskListSize());
+        assertEquals(event.toString(), list.getList().get(0).toString());
+        assertEquals(deadline.toString(), list.getList().get(1).toString());
+        assertEquals(deadline.getRemindTime(), list.getList().get(1).getRemindTime());
+        assertEquals(textRecord.toString(), list.getList().get(2).toString());
+        assertEquals("Thu 14/11/2019 8:00 am", list.getList().get(2).getRemindTime());
+    }
+
+    @Test
+    public void read_unreadableTextRecord_loggedAndSkipped() throws IOException {
+        Assignment event = new Event("CS2100 tutorial", "Wed 13/11/2019", "11:00 AM", "12:00 PM");
+        Assignment unreadable = new Event("CS2101 meeting", "12/10/2019", "1200", "1201");
+        ArrayList<Assignment> tasks = new ArrayList<>();
+        tasks.add(unreadable);
+        tasks.add(event);
+        List<LogRecord> logged = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                logged.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Logger logger = DukeLogger.getLogger(BinarySnapshot.class);
+        logger.addHandler(handler);
+        TaskList list;
+        try {
+            list = readBack(tasks);
+        } finally {
+            logger.removeHandler(handler);
+        }
+
+        assertEquals(1, list.taskListSize());
+        assertEquals(event.toString(), list.getList().get(0).toString());
+        assertEquals(1, logged.size());
+        assertTrue(logged.get(0).getMessage().contains("unreadable"));
+    }
+
+    @Test
+    public void read_textFile_exceptionThrown() throws IOException {
+        Path snapshot = Files.createTempFile("snapshot", ".bin");
+        Files.write(snapshot, "CS2100 [E][?][NR][<R/R>] tutorial".getBytes());
+        assertThrows(IOException.class, () -> BinarySnapshot.read(snapshot, scanner, new TaskList()));
+        Files.delete(snapshot);
+    }
+
+    private TaskList readBack(List<Assignment> tasks) throws IOException {
+        Path snapshot = Files.createTempFile("snapshot", ".bin");
+        Files.write(snapshot, BinarySnapshot.encode(tasks));
+        TaskList list = new TaskList();
+        BinarySnapshot.read(snapshot, scanner, list);
+        Files.delete(snapshot);
+        return list;
+    }
+}
@@ -0,0 +1,45 @@
+package storagetest;
+
+import commons.DataManifest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class DataManifestTest {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    public void save_stampsKeptAcrossLoads() throws IOException {
+        String filePath = folder.resolve("manifest.txt").toString();
+        DataManifest manifest = new DataManifest(filePath);
+        assertNull(manifest.get("event.txt"));
+        HashMap<String, String> stamps = new HashMap<>();
+        stamps.put("event.txt", "1a2b");
+        stamps.put("preloadevent", "3c4d");
+        manifest.save(stamps);
+        stamps.clear();
+        stamps.put("event.txt", "5e6f");
+        manifest.save(stamps);
+
+        DataManifest reloaded = new DataManifest(filePath);
+        assertEquals("5e6f", reloaded.get("event.txt"));
+        assertEquals("3c4d", reloaded.get("preloadevent"));
+    }
+
+    @Test
+    public void checksum_sameForBytesAndStream() throws IOException {
+        byte[] content = "[E][✘][NR][<R/R>] lecture".getBytes(StandardCharsets.UTF_8);
+        assertEquals(DataManifest.checksum(content), DataManifest.checksum(new ByteArrayInputStream(content)));
+        assertNotEquals(DataManifest.checksum(content), DataManifest.checksum(new byte[0]));
+    }
+}
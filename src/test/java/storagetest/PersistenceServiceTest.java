@@ -0,0 +1,75 @@
+package storagetest;
+
+import commons.Journal;
+import commons.JournalOperation;
+import commons.PersistenceService;
+import tasks.Assignment;
+import tasks.Event;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PersistenceServiceTest {
+    private final PersistenceService persistenceService = new PersistenceService();
+
+    @TempDir
+    Path folder;
+
+    @Test
+    public void flush_snapshotReplacesRecordsQueuedBeforeIt() throws IOException {
+        Journal journal = new Journal(folder.resolve("event.journal").toString());
+        Path snapshotPath = folder.resolve("event.txt");
+        Path otherPath = folder.resolve("event.bin");
+        Files.write(otherPath, new byte[]{1});
+        Assignment lecture = new Event("CS2100 lecture", "Wed 13/11/2019", "10:00 AM", "12:00 PM");
+        Assignment tutorial = new Event("CS2100 tutorial", "Thu 14/11/2019", "11:00 AM", "12:00 PM");
+        for (int i = 0; i < 13; i++) {
+            persistenceService.record(journal, Journal.toRecord(JournalOperation.ADD, lecture));
+        }
+        byte[] content = (lecture.toString() + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        int[] timesWritten = new int[2];
+        Runnable firstWritten = () -> timesWritten[0]++;
+        Runnable secondWritten = () -> timesWritten[1]++;
+        persistenceService.saveSnapshot(snapshotPath.toString(), new byte[0], otherPath.toString(), firstWritten,
+                journal);
+        CompletableFuture<Void> written = persistenceService.saveSnapshot(snapshotPath.toString(), content,
+                otherPath.toString(), secondWritten, journal);
+        persistenceService.record(journal, Journal.toRecord(JournalOperation.ADD, tutorial));
+        persistenceService.flush();
+
+        assertTrue(written.isDone());
+        assertArrayEquals(new int[]{0, 1}, timesWritten);
+        assertArrayEquals(content, Files.readAllBytes(snapshotPath));
+        assertFalse(Files.exists(otherPath));
+        List<String[]> records = journal.readRecords();
+        assertEquals(1, records.size());
+        assertTrue(records.get(0)[1].contains("tutorial"));
+    }
+
+    @Test
+    public void flush_recordsForEachJournalKeptInOrder() throws IOException {
+        Journal events = new Journal(folder.resolve("event.journal").toString());
+        Journal deadlines = new Journal(folder.resolve("deadline.journal").toString());
+        persistenceService.record(events, "ADD first");
+        persistenceService.record(deadlines, "ADD deadline");
+        persistenceService.record(events, "REMOVE first");
+        persistenceService.flush();
+        persistenceService.flush();
+
+        List<String[]> records = events.readRecords();
+        assertEquals(2, records.size());
+        assertEquals("ADD", records.get(0)[0]);
+        assertEquals("REMOVE", records.get(1)[0]);
+        assertEquals(1, deadlines.readRecords().size());
+    }
+}
@@ -0,0 +1,44 @@
+package storagetest;
+
+import commons.DukeConstants;
+import commons.JournalOperation;
+import commons.PersistenceService;
+import commons.ReminderStore;
+import tasks.Assignment;
+import tasks.Deadline;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReminderStoreTest {
+
+    @Test
+    public void flush_queuedChangesWrittenAsRecordedInOrder() throws IOException {
+        Path journalPath = Files.createTempFile("reminder", ".journal");
+        Files.delete(journalPath);
+        PersistenceService persistenceService = new PersistenceService();
+        ReminderStore store = new ReminderStore(journalPath.toString(), persistenceService);
+        Assignment report = new Deadline("CS2113T report", "Fri 15/11/2019", "11:59 PM");
+        report.setReminder(true);
+        report.setRemindTime("Fri 15/11/2019 09:00 AM");
+        store.record(report);
+        report.setReminder(false);
+        store.record(report);
+        store.record(new Deadline("CS2100 quiz", "Thu 14/11/2019", "10:00 AM"));
+        persistenceService.flush();
+
+        List<String[]> records = store.getJournal().readRecords();
+        assertEquals(3, records.size());
+        assertEquals(3, store.getJournal().getRecordCount());
+        assertEquals(JournalOperation.REMIND.name(), records.get(0)[0]);
+        assertTrue(records.get(0)[1].contains(DukeConstants.HAS_REMINDER_INDICATOR));
+        assertTrue(records.get(1)[1].contains(DukeConstants.NO_REMINDER_INDICATOR));
+        assertTrue(records.get(2)[1].contains("quiz"));
+        Files.deleteIfExists(journalPath);
+    }
+}
@@ -0,0 +1,189 @@
+package storagetest;
+
+import commons.Journal;
+import commons.DateTimeCodec;
+import commons.JournalOperation;
+import commons.Reminder;
+import commons.Storage;
+import dukeexceptions.DukeIOException;
+import dukeexceptions.DukeInvalidDateTimeException;
+import tasks.Assignment;
+import tasks.Deadline;
+import tasks.Event;
+import tasks.TaskList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StorageJournalTest {
+    private String userDir;
+    private Path dataFolder;
+    private Assignment lecture;
+    private Assignment tutorial;
+    private Assignment seminar;
+
+    @TempDir
+    Path folder;
+
+    /**
+     * This method points Storage at an empty data folder for each test.
+     */
+    @BeforeEach
+    public void setDataFolder() throws IOException {
+        userDir = System.getProperty("user.dir");
+        System.setProperty("user.dir", folder.toString());
+        dataFolder = Files.createDirectory(folder.resolve("data"));
+        lecture = new Event("CS2100 lecture", "Wed 13/11/2019", "10:00 AM", "12:00 PM");
+        tutorial = new Event("CS2100 tutorial", "Thu 14/11/2019", "11:00 AM", "12:00 PM");
+        seminar = new Event("CS2101 seminar", "Fri 15/11/2019", "02:00 PM", "04:00 PM");
+    }
+
+    @AfterEach
+    public void restoreUserDir() {
+        System.setProperty("user.dir", userDir);
+    }
+
+    @Test
+    public void readEventList_journalReplayedOverSnapshot() throws IOException, DukeIOException {
+        writeLines("event.txt", lecture.toString(), tutorial.toString());
+        Assignment doneLecture = new Event("CS2100 lecture", "Wed 13/11/2019", "10:00 AM", "12:00 PM");
+        doneLecture.setDone(true);
+        writeLines("event.journal", Journal.toRecord(JournalOperation.ADD, seminar),
+                Journal.toRecord(JournalOperation.REMOVE, tutorial),
+                Journal.toRecord(JournalOperation.DONE, doneLecture));
+        TaskList events = new TaskList();
+        Storage storage = new Storage();
+        storage.readEventList(events);
+
+        assertEquals(2, events.taskListSize());
+        assertTrue(events.containsTask(seminar));
+        assertFalse(events.containsTask(tutorial));
+        assertTrue(find(events, lecture).getStatus());
+        assertTrue(storage.isEventListChanged());
+    }
+
+    @Test
+    public void readDeadlineList_remindRecordReplayedOverSnapshot() throws IOException, DukeIOException {
+        Assignment report = new Deadline("CS2113T report", "Fri 15/11/2019", "11:59 PM");
+        writeLines("deadline.txt", report.toString());
+        Assignment reminded = new Deadline("CS2113T report", "Fri 15/11/2019", "11:59 PM");
+        reminded.setReminder(true);
+        reminded.setRemindTime("Fri 15/11/2019 09:00 AM");
+        writeLines("reminder.journal", Journal.toRecord(JournalOperation.REMIND, reminded));
+        TaskList deadlines = new TaskList();
+        Storage storage = new Storage();
+        storage.readDeadlineList(deadlines);
+
+        Assignment replayed = find(deadlines, report);
+        assertTrue(replayed.getIsReminder());
+        assertEquals("Fri 15/11/2019 09:00 AM", replayed.getRemindTime());
+        assertEquals(1, storage.getReminderMap().size());
+    }
+
+    @Test
+    public void readDeadlineList_pendingReminderRearmed_notChangedOnNextLaunch() throws IOException,
+            DukeIOException, DukeInvalidDateTimeException {
+        Assignment report = new Deadline("CS2113T report", "Fri 15/11/2019", "11:59 PM");
+        report.setReminder(true);
+        report.setRemindTime(DateTimeCodec.formatDayDateTime(LocalDateTime.now().plusYears(1).withNano(0)));
+        writeLines("deadline.txt", report.toString());
+        Storage firstLaunch = launch();
+        assertEquals(1, firstLaunch.getReminderObject().getMetrics().getPendingCount());
+
+        TaskList deadlines = new TaskList();
+        Storage secondLaunch = new Storage();
+        secondLaunch.readDeadlineList(deadlines);
+        assertFalse(secondLaunch.isDeadlineListChanged());
+        assertTrue(find(deadlines, report).getIsReminder());
+    }
+
+    @Test
+    public void discardUpTo_recordsAfterPositionKept() throws IOException {
+        Journal journal = new Journal(dataFolder.resolve("event.journal").toString());
+        List<String> beforeSnapshot = new ArrayList<>();
+        beforeSnapshot.add(Journal.toRecord(JournalOperation.ADD, lecture));
+        beforeSnapshot.add(Journal.toRecord(JournalOperation.ADD, tutorial));
+        journal.appendAll(beforeSnapshot);
+        final long snapshotPosition = journal.getPosition();
+        List<String> afterSnapshot = new ArrayList<>();
+        afterSnapshot.add(Journal.toRecord(JournalOperation.ADD, seminar));
+        journal.appendAll(afterSnapshot);
+        final long endPosition = journal.getPosition();
+        journal.discardUpTo(snapshotPosition);
+
+        List<String[]> records = journal.readRecords();
+        assertEquals(1, records.size());
+        assertEquals(seminar.toString(), records.get(0)[1]);
+        assertEquals(1, journal.getRecordCount());
+        assertEquals(endPosition, journal.getPosition());
+        journal.discardUpTo(snapshotPosition);
+        assertEquals(1, journal.readRecords().size());
+    }
+
+    @Test
+    public void updateEventList_journalCompactedIntoSnapshot() throws IOException, DukeIOException {
+        TaskList events = new TaskList();
+        Storage storage = new Storage();
+        for (Assignment task : new Assignment[]{lecture, tutorial, seminar}) {
+            events.addTask(task);
+            storage.journalEvent(JournalOperation.ADD, task, events);
+        }
+        storage.flush();
+        assertEquals(3, new Journal(dataFolder.resolve("event.journal").toString()).getRecordCount());
+
+        storage.updateEventList(events);
+        storage.flush();
+        assertEquals(0, new Journal(dataFolder.resolve("event.journal").toString()).getRecordCount());
+        assertEquals(3, Files.readAllLines(dataFolder.resolve("event.txt"), StandardCharsets.UTF_8).size());
+        TaskList readBack = new TaskList();
+        new Storage().readEventList(readBack);
+        assertEquals(3, readBack.taskListSize());
+    }
+
+    private Storage launch() throws DukeIOException, DukeInvalidDateTimeException {
+        final TaskList deadlines = new TaskList();
+        Storage storage = new Storage();
+        Reminder reminder = new Reminder();
+        reminder.setStorage(storage);
+        reminder.setHeadless(true);
+        storage.setReminderObject(reminder);
+        storage.readDeadlineList(deadlines);
+        if (storage.isDeadlineListChanged()) {
+            storage.updateDeadlineList(deadlines);
+        }
+        reminder.setDeadlines(deadlines);
+        storage.setReminderOnStart();
+        storage.flush();
+        return storage;
+    }
+
+    private void writeLines(String fileName, String... lines) throws IOException {
+        List<String> content = new ArrayList<>();
+        for (String line : lines) {
+            content.add(line);
+        }
+        Files.write(dataFolder.resolve(fileName), content, StandardCharsets.UTF_8);
+    }
+
+    private Assignment find(TaskList list, Assignment task) {
+        for (Assignment taskInList : list.getList()) {
+            if (taskInList.getDateTime().equals(task.getDateTime())
+                    && taskInList.getDescription().equals(task.getDescription())) {
+                return taskInList;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,105 @@
+package storagetest;
+
+import commons.TaskRecordScanner;
+import tasks.Assignment;
+import tasks.Deadline;
+import tasks.Event;
+import tasks.TaskList;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskRecordScannerTest {
+    private static final String EVENT_PREFIX = "CS2100 [E][✘][NR][<R/R>] tutorial (at: ";
+    private TaskRecordScanner scanner = new TaskRecordScanner();
+
+    @Test
+    public void parse_malformedRecords_returnsNull() {
+        assertNull(scanner.parse("garbage"));
+        assertNull(scanner.parse("CS2100 [E][✘][NR][<R/R>] tutorial"));
+        assertNull(scanner.parse("[E][✘][NR][<R/R>] tutorial (at: Wed 13/11/2019 time: 11:00 AM to: 12:00 PM)"));
+        assertNull(scanner.parse(EVENT_PREFIX + "Wed 13/11/2019 time: 11:00 AM to: 12:00 PM"));
+        assertNull(scanner.parse("CS2100 [E][✘][NR][<R tutorial (at: Wed 13/11/2019 time: 11:00 AM to: 12:00 PM)"));
+        assertNull(scanner.parse("CS2113T [D][✘][NR][<R/R>] report (on: Fri 15/11/2019 11:59 PM)"));
+    }
+
+    @Test
+    public void parse_storedTasks_readBackUnchanged() {
+        Assignment event = new Event("CS2100 tutorial", "Wed 13/11/2019", "11:00 AM", "12:00 PM");
+        event.setDone(true);
+        Assignment deadline = new Deadline("CS2113T report", "Fri 15/11/2019", "11:59 PM");
+        assertEquals(event.toString(), scanner.parse(event.toString()).toString());
+        assertEquals(deadline.toString(), scanner.parse(deadline.toString()).toString());
+    }
+
+    @Test
+    public void parse_nonStandardDates_normalised() {
+        assertEquals("Fri 01/11/2019", scanner.parse(EVENT_PREFIX + "Fri 1/11/2019 time: 9:00 am to: 12:00 PM)")
+                .getDate());
+        assertEquals("Wed 13/11/2019", scanner.parse(EVENT_PREFIX + "Mon 13/11/2019 time: 11:00 AM to: 12:00 PM)")
+                .getDate());
+        Assignment padded = scanner.parse(EVENT_PREFIX + "  Wed 13/11/2019  time: 9:00 am to: 12:00 PM)");
+        assertEquals("Wed 13/11/2019", padded.getDate());
+        assertEquals("09:00 AM", padded.getStartTime());
+        assertEquals("09:00 AM", scanner.parse("CS2113T [D][✘][NR][<R/R>] report (by: Fri 15/11/2019 9:00 am)")
+                .getTime());
+    }
+
+    @Test
+    public void parse_datesOutsideFormatOrCalendar_returnsNull() {
+        assertNull(scanner.parse(EVENT_PREFIX + "12/10/2019 time: 1200 to: 1201)"));
+        assertNull(scanner.parse(EVENT_PREFIX + "Wed 13/11/2030 time: 11:00 AM to: 12:00 PM)"));
+        assertNull(scanner.parse("CS2113T [D][✘][NR][<R/R>] report (by: 15/11/2019 2359)"));
+    }
+
+    @Test
+    public void parse_reminderFields_kept() {
+        Assignment reminded = scanner.parse("CS2113T [D][✓][HR][<RThu 14/11/2019 09:00 AM/R>] report "
+                + "(by: Fri 15/11/2019 11:59 PM)");
+        assertTrue(reminded.getIsReminder());
+        assertTrue(reminded.getStatus());
+        assertEquals("Thu 14/11/2019 09:00 AM", reminded.getRemindTime());
+        Assignment notReminded = scanner.parse("CS2113T [D][✘][NR][<R/R>] report (by: Fri 15/11/2019 11:59 PM)");
+        assertFalse(notReminded.getIsReminder());
+        assertFalse(notReminded.getStatus());
+        Assignment cancelled = scanner.parse("CS2113T [D][✘][NR][<RThu 14/11/2019 09:00 AM/R>] report "
+                + "(by: Fri 15/11/2019 11:59 PM)");
+        assertFalse(cancelled.getIsReminder());
+        assertEquals("Thu 14/11/2019 09:00 AM", cancelled.getRemindTime());
+    }
+
+    @Test
+    public void parse_manyDistinctDates_allNormalised() {
+        for (int day = 1; day <= 30; day++) {
+            for (String time : new String[]{"8:00 AM", "9:30 AM", "1:15 PM"}) {
+                Assignment task = scanner.parse(EVENT_PREFIX + "Fri " + day + "/11/2019 time: " + time
+                        + " to: 11:00 PM)");
+                assertNotNull(task);
+                assertEquals(String.format("%02d/11/2019", day), task.getDate().substring(4));
+            }
+        }
+    }
+
+    @Test
+    public void scanFile_unreadableLinesSkipped() throws IOException {
+        Path file = Files.createTempFile("event", ".txt");
+        String content = EVENT_PREFIX + "Wed 13/11/2019 time: 11:00 AM to: 12:00 PM)\r\n"
+                + "not a task\r\n"
+                + "\r\n"
+                + "CS2113T [D][✘][NR][<R/R>] report (by: Fri 15/11/2019 11:59 PM)";
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        TaskList list = new TaskList();
+        scanner.scanFile(file, list);
+        Files.delete(file);
+
+        assertEquals(2, list.taskListSize());
+    }
+}
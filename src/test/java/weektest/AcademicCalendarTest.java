@@ -0,0 +1,51 @@
+package weektest;
+
+import commons.AcademicCalendar;
+import commons.AcademicWeek;
+import commons.LookupTable;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AcademicCalendarTest {
+    private AcademicCalendar academicCalendar = AcademicCalendar.getInstance();
+
+    @Test
+    public void weekOfDateMatchesWeekByName() {
+        AcademicWeek recessWeek = academicCalendar.findWeek("recess  week");
+        assertEquals("Recess Week", recessWeek.getLabel());
+        assertEquals(LocalDate.of(2019, 9, 23), recessWeek.getFirstDate());
+        assertEquals(LocalDate.of(2019, 9, 29), recessWeek.getLastDate());
+        assertSame(recessWeek, academicCalendar.getWeek(LocalDate.of(2019, 9, 26)));
+        assertEquals(LocalDate.of(2019, 10, 4), academicCalendar.findWeek("Week 7").getDate(DayOfWeek.FRIDAY));
+        assertEquals("30/09/2019 to 06/10/2019", academicCalendar.findWeek("week 7").getRange());
+    }
+
+    @Test
+    public void datesOutsideCalendarHaveNoWeek() {
+        assertTrue(academicCalendar.contains(LocalDate.of(2019, 8, 12)));
+        assertTrue(academicCalendar.contains(LocalDate.of(2019, 12, 1)));
+        assertFalse(academicCalendar.contains(LocalDate.of(2019, 8, 11)));
+        assertFalse(academicCalendar.contains(LocalDate.of(2019, 12, 2)));
+        assertNull(academicCalendar.findWeek("Week 14"));
+        assertEquals("Week 1", academicCalendar.getCurrentWeek(LocalDate.of(2019, 8, 1)).getLabel());
+        assertEquals("Week 1", academicCalendar.getCurrentWeek(LocalDate.of(2020, 1, 1)).getLabel());
+    }
+
+    @Test
+    public void lookupTableAnswersFromCalendar() {
+        LookupTable lookupTable = LookupTable.getInstance();
+        assertEquals("30/09/2019", lookupTable.getValue("week 7 mon"));
+        assertEquals("01/12/2019", lookupTable.getValue("Exam Week Sun"));
+        assertEquals("Reading Week", lookupTable.getValue("20/11/2019"));
+        assertEquals("12/08/2019 to 18/08/2019", lookupTable.getValue("Week 1"));
+        assertNull(lookupTable.getValue("31/02/2019"));
+        assertNull(lookupTable.getValue("week 14 mon"));
+    }
+}
@@ -0,0 +1,88 @@
+package weektest;
+
+import commands.WeekCommand;
+import commons.WeekEntry;
+import commons.WeekList;
+import parser.WeekParse;
+import tasks.Assignment;
+import tasks.Event;
+import tasks.TaskChange;
+import tasks.TaskList;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class WeekListTest {
+
+    @Test
+    public void listenersToldAboutEachChangeOnce() {
+        TaskList list = new TaskList();
+        ArrayList<String> changes = new ArrayList<>();
+        list.addListener((change, task) -> changes.add(change + " " + task.getDescription().trim()));
+        Assignment tutorial = new Event("CS2100 tutorial", "Wed 13/11/2019", "11:00 AM", "12:00 PM");
+        list.addTask(tutorial);
+        list.addTask(new Event("CS2100 tutorial", "Wed 13/11/2019", "11:00 AM", "12:00 PM"));
+        list.updateTask(tutorial);
+        list.updateTask(tutorial);
+        list.setReminder(tutorial, "Tue 12/11/2019 11:00 AM", true);
+        list.removeTask(tutorial);
+
+        assertEquals(4, changes.size());
+        assertEquals(TaskChange.ADDED + " tutorial", changes.get(0));
+        assertEquals(TaskChange.MARKED_DONE + " tutorial", changes.get(1));
+        assertEquals(TaskChange.REMINDER_CHANGED + " tutorial", changes.get(2));
+        assertEquals(TaskChange.REMOVED + " tutorial", changes.get(3));
+    }
+
+    @Test
+    public void getDayList_onlyDatesInWeekFound() {
+        ObservableList<WeekEntry> wedList = FXCollections.observableArrayList();
+        ObservableList<WeekEntry> sunList = FXCollections.observableArrayList();
+        WeekList weekList = new WeekList(LocalDate.of(2019, 11, 11), FXCollections.observableArrayList(),
+                FXCollections.observableArrayList(), wedList, FXCollections.observableArrayList(),
+                FXCollections.observableArrayList(), FXCollections.observableArrayList(), sunList);
+
+        assertSame(wedList, weekList.getDayList(LocalDate.of(2019, 11, 13)));
+        assertSame(sunList, weekList.getDayList(LocalDate.of(2019, 11, 17)));
+        assertNull(weekList.getDayList(LocalDate.of(2019, 11, 10)));
+        assertNull(weekList.getDayList(LocalDate.of(2019, 11, 20)));
+        assertNull(new WeekList().getDayList(LocalDate.of(2019, 11, 13)));
+    }
+
+    @Test
+    public void showTasksOn_orderedByStartTime() {
+        TaskList list = new TaskList();
+        list.addTask(new Event("CS2100 lab", "Wed 13/11/2019", "02:00 PM", "04:00 PM"));
+        list.addTask(new Event("CS2100 lecture", "Wed 13/11/2019", "09:00 AM", "10:00 AM"));
+        list.addTask(new Event("CS2101 sectional", "Wed 13/11/2019", "11:00 AM", "01:00 PM"));
+        list.addTask(new Event("CS2101 sectional", "Thu 14/11/2019", "08:00 AM", "10:00 AM"));
+
+        List<WeekEntry> entries = WeekCommand.showTasksOn(list, LocalDate.of(2019, 11, 13));
+        assertEquals(3, entries.size());
+        assertEquals("lecture", entries.get(0).getTask().getDescription().trim());
+        assertEquals("sectional", entries.get(1).getTask().getDescription().trim());
+        assertEquals("lab", entries.get(2).getTask().getDescription().trim());
+    }
+
+    @Test
+    public void generateWeekList_eventsShownOnTheirDay() {
+        TaskList list = new TaskList();
+        list.addTask(new Event("CS2100 lab", "Wed 13/11/2019", "02:00 PM", "04:00 PM"));
+        list.addTask(new Event("CS2101 sectional", "Sun 17/11/2019", "08:00 AM", "10:00 AM"));
+        list.addTask(new Event("CS2101 sectional", "Mon 18/11/2019", "08:00 AM", "10:00 AM"));
+
+        WeekList weekList = new WeekCommand(WeekParse.getWeek("show/week 13")).generateWeekList(list);
+        assertEquals(1, weekList.getDayList(LocalDate.of(2019, 11, 13)).size());
+        assertEquals("lab", weekList.getDayList(LocalDate.of(2019, 11, 13)).get(0).getTask().getDescription().trim());
+        assertEquals(1, weekList.getDayList(LocalDate.of(2019, 11, 17)).size());
+        assertEquals(0, weekList.getDayList(LocalDate.of(2019, 11, 11)).size());
+        assertNull(weekList.getDayList(LocalDate.of(2019, 11, 18)));
+    }
+}
@@ -1,21 +1,22 @@
 @ECHO OFF
 
-REM create bin directory if it doesn't exist
-if not exist ..\bin mkdir ..\bin
+REM delete output and data from previous run
+if exist ACTUAL.TXT del ACTUAL.TXT
+if exist data rmdir /s /q data
 
-REM delete output from previous run
-del ACTUAL.TXT
-
-REM compile the code into the bin folder
-javac  -cp ..\src\main\java -Xlint:none -d ..\bin ..\src\main\java\Duke.java
+REM build the jar
+pushd ..
+call gradlew.bat -q shadowJar
 IF ERRORLEVEL 1 (
+    popd
     echo ********** BUILD FAILURE **********
     exit /b 1
 )
-REM no error here, errorlevel == 0
+popd
+for %%f in (..\build\libs\*.jar) do set JAR=%%f
 
-REM run the program, feed commands from input.txt file and redirect the output to the ACTUAL.TXT
-java -classpath ..\bin Duke < input.txt > ACTUAL.TXT
+REM run the commands in input.txt without a display and redirect the responses to ACTUAL.TXT
+java -Djava.awt.headless=true -cp "%JAR%" commons.BatchRunner input.txt > ACTUAL.TXT
 
 REM compare the output to the expected output
-FC ACTUAL.TXT EXPECTED.TXT
\ No newline at end of file
+FC ACTUAL.TXT EXPECTED.txt
@@ -1,34 +1,23 @@
 #!/usr/bin/env bash
 
-# create bin directory if it doesn't exist
-if [ ! -d "../bin" ]
-then
-    mkdir ../bin
-fi
-
-# delete output from previous run
-if [ -e "./ACTUAL.TXT" ]
-then
-    rm ACTUAL.TXT
-fi
+cd "$(dirname "$0")"
 
-if [ -e "./duke.txt" ]
-then
-    rm duke.txt
-fi
+# delete output and data from previous run
+rm -f ACTUAL.TXT
+rm -rf data
 
-# compile the code into the bin folder, terminates if error occurred
-if ! javac -encoding "UTF-8" -cp ../src/main/java -Xlint:none -d ../bin ../src/main/java/Duke.java
+# build the jar, terminates if error occurred
+if ! (cd .. && ./gradlew -q shadowJar)
 then
     echo "********** BUILD FAILURE **********"
     exit 1
 fi
 
-# run the program, feed commands from input.txt file and redirect the output to the ACTUAL.TXT
-java -classpath ../bin Duke < input.txt > ACTUAL.TXT
+# run the commands in input.txt without a display and redirect the responses to ACTUAL.TXT
+java -Djava.awt.headless=true -cp "$(ls ../build/libs/*.jar | head -n 1)" commons.BatchRunner input.txt > ACTUAL.TXT
 
 # compare the output to the expected output
-diff ACTUAL.TXT EXPECTED.TXT
+diff ACTUAL.TXT EXPECTED.txt
 if [ $? -eq 0 ]
 then
     echo "Test result: PASSED"
@@ -36,4 +25,4 @@ then
 else
     echo "Test result: FAILED"
     exit 1
-fi
\ No newline at end of file
+fi